@@ -0,0 +1,62 @@
+package com.example.blogplatform.benchmarks;
+
+import com.example.blogplatform.content.ContentAnalyzer;
+import com.example.blogplatform.domain.PostStatus;
+import com.example.blogplatform.domain.entities.Category;
+import com.example.blogplatform.domain.entities.Post;
+import com.example.blogplatform.domain.entities.Tag;
+import com.example.blogplatform.domain.entities.User;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Detached entities shaped like a typical published post, shared by the hot-path benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Post post(int contentLength, int tagCount) {
+        User author = User.builder()
+                .id(UUID.randomUUID())
+                .email("author@example.com")
+                .name("Author")
+                .createdAt(LocalDateTime.now())
+                .build();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.builder().id(UUID.randomUUID()).name("tag-" + i).build());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Post post = Post.builder()
+                .id(UUID.randomUUID())
+                .title("Benchmarking the hot paths")
+                .author(author)
+                .category(category())
+                .tags(tags)
+                .status(PostStatus.PUBLISHED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        String content = content(contentLength);
+        post.applyContent(content, ContentAnalyzer.analyze(content));
+        return post;
+    }
+
+    static Category category() {
+        return Category.builder().id(UUID.randomUUID()).name("Performance").build();
+    }
+
+    static String content(int length) {
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append("lorem ipsum dolor sit amet ");
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.blogplatform.benchmarks;
+
+import com.example.blogplatform.content.ContentAnalysis;
+import com.example.blogplatform.content.ContentAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ContentAnalyzer} with the regex-based reading time calculation it replaced.
+ * <p>
+ * {@code legacyReadingTime} computes less than {@code analyze} (no excerpt, no hash), so equal
+ * timings would already favour the single pass. Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentAnalyzerBenchmark {
+
+    private static final String[] WORDS = {"the", "spring", "boot", "application", "post", "a", "readers",
+            "performance", "of", "index", "**bold**", "<em>markup</em>", "#", "caching"};
+
+    @Param({"1000", "50000"})
+    public int length;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder builder = new StringBuilder(length + 32);
+        while (builder.length() < length) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            builder.append(random.nextInt(12) == 0 ? "\n\n" : " ");
+        }
+        builder.setLength(length);
+        content = builder.toString();
+    }
+
+    @Benchmark
+    public int legacyReadingTime() {
+        if (content == null || content.isEmpty()) {
+            return 0;
+        }
+        int wordCount = content.trim().split("\\s+").length;
+        return (int) Math.ceil((double) wordCount / 200);
+    }
+
+    @Benchmark
+    public ContentAnalysis analyze() {
+        return ContentAnalyzer.analyze(content);
+    }
+}
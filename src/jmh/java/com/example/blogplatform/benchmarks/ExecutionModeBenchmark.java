@@ -0,0 +1,141 @@
+package com.example.blogplatform.benchmarks;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares request throughput and tail latency of platform and virtual threads in front of a
+ * bounded Hikari pool.
+ * <p>
+ * Each simulated request waits on blocking I/O outside the database (standing in for network
+ * calls or password hashing), then borrows a pooled connection for a short query. The platform
+ * mode uses a fixed pool sized like Tomcat's default of 200 threads; the virtual mode starts one
+ * virtual thread per request and requires Java 21 or newer.
+ * <p>
+ * {@link #handleRequests()} submits bursts of 1000 requests and reports requests per second.
+ * {@link #requestLatency()} keeps 1000 requests in flight, one per benchmark thread, and samples
+ * the time of each from submission to completion, so the latency percentiles of the measurement
+ * iterations are part of the JMH results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int REQUESTS_IN_FLIGHT = 1000;
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String mode;
+
+    @Param("10")
+    public int poolSize;
+
+    @Param("2")
+    public int ioMillis;
+
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:execution_bench;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(poolSize);
+        config.setConnectionTimeout(30_000);
+        dataSource = new HikariDataSource(config);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_posts (id INT PRIMARY KEY, title VARCHAR(255))");
+            statement.execute("MERGE INTO bench_posts KEY (id) VALUES (1, 'Benchmark post')");
+        }
+        executor = "VIRTUAL".equals(mode) ? newVirtualThreadPerTaskExecutor() : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS_IN_FLIGHT)
+    public void handleRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS_IN_FLIGHT);
+        for (int i = 0; i < REQUESTS_IN_FLIGHT; i++) {
+            executor.execute(() -> {
+                try {
+                    handleRequest();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(REQUESTS_IN_FLIGHT)
+    public void requestLatency() throws Exception {
+        executor.submit(this::handleRequest).get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+
+    private void handleRequest() {
+        try {
+            Thread.sleep(ioMillis);
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("SELECT title FROM bench_posts WHERE id = ?")) {
+                statement.setInt(1, 1);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Looks up {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively, so the benchmark
+     * compiles on Java 17.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or newer, running on "
+                    + Runtime.version().feature(), e);
+        }
+    }
+}
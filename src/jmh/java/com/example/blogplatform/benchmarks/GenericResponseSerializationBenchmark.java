@@ -0,0 +1,61 @@
+package com.example.blogplatform.benchmarks;
+
+import com.example.blogplatform.domain.dtos.PostDto;
+import com.example.blogplatform.mappers.PostMapper;
+import com.example.blogplatform.utils.GenericResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a {@link GenericResponse} holding a page of posts, as written by the post listing endpoint.
+ * <p>
+ * The {@link ObjectMapper} is configured by {@link Jackson2ObjectMapperBuilder} with its defaults,
+ * which is close to, but not exactly, the one Spring Boot configures for the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericResponseSerializationBenchmark {
+
+    @Param({"1", "20"})
+    public int posts;
+
+    private ObjectMapper objectMapper;
+    private GenericResponse<List<PostDto>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        PostMapper postMapper = Mappers.getMapper(PostMapper.class);
+        List<PostDto> page = new ArrayList<>(posts);
+        for (int i = 0; i < posts; i++) {
+            page.add(postMapper.toDto(BenchmarkFixtures.post(5_000, 3)));
+        }
+        response = new GenericResponse<>(true, "Posts retrieved", page);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.blogplatform.benchmarks;
+
+import com.example.blogplatform.config.CacheConfig;
+import com.example.blogplatform.domain.entities.User;
+import com.example.blogplatform.security.BlogUserDetails;
+import com.example.blogplatform.security.JwtAuthenticationFilter;
+import com.example.blogplatform.services.impl.AuthenticationServiceImpl;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing and verification, and the per-request cost of {@link JwtAuthenticationFilter}.
+ * <p>
+ * Tokens carry the user id and roles, so validation takes the trusted-claims path and never
+ * reaches the {@code UserDetailsService}; authentication itself is not benchmarked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private AuthenticationServiceImpl authenticationService;
+    private JwtAuthenticationFilter filter;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        authenticationService = new AuthenticationServiceImpl(null, null,
+                new ConcurrentMapCacheManager(CacheConfig.VERIFIED_TOKENS_CACHE), null);
+        ReflectionTestUtils.setField(authenticationService, "secretKey",
+                "benchmark-secret-key-that-is-long-enough-for-hs256");
+        ReflectionTestUtils.setField(authenticationService, "trustClaims", true);
+        ReflectionTestUtils.invokeMethod(authenticationService, "init");
+
+        filter = new JwtAuthenticationFilter(authenticationService);
+        userDetails = new BlogUserDetails(User.builder()
+                .id(UUID.randomUUID())
+                .email("author@example.com")
+                .password("{noop}password")
+                .build());
+        token = authenticationService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return authenticationService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public UserDetails validateToken() {
+        return authenticationService.validateToken(token);
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return request.getAttribute("userId");
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.blogplatform.benchmarks;
+
+import com.example.blogplatform.domain.dtos.CategoryDto;
+import com.example.blogplatform.domain.dtos.PostDto;
+import com.example.blogplatform.domain.entities.Category;
+import com.example.blogplatform.domain.entities.Post;
+import com.example.blogplatform.mappers.CategoryMapper;
+import com.example.blogplatform.mappers.PostMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping as done for every post and category in a response.
+ * <p>
+ * The generated mappers have no injected dependencies, so they are created without a Spring context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"0", "5"})
+    public int tagCount;
+
+    private PostMapper postMapper;
+    private CategoryMapper categoryMapper;
+    private Post post;
+    private Category category;
+
+    @Setup
+    public void setUp() {
+        postMapper = Mappers.getMapper(PostMapper.class);
+        categoryMapper = Mappers.getMapper(CategoryMapper.class);
+        post = BenchmarkFixtures.post(5_000, tagCount);
+        category = BenchmarkFixtures.category();
+    }
+
+    @Benchmark
+    public PostDto postToDto() {
+        return postMapper.toDto(post);
+    }
+
+    @Benchmark
+    public CategoryDto categoryToDto() {
+        return categoryMapper.toDto(category);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.blogplatform.benchmarks;
+
+import com.example.blogplatform.domain.PostStatus;
+import com.example.blogplatform.domain.dtos.PostDto;
+import com.example.blogplatform.utils.Patcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a partial update (title and status only) onto a fully populated {@link PostDto}, alternating
+ * between two patches so that every invocation writes.
+ * <p>
+ * {@code reflective} is the previous implementation, which scanned and unlocked the declared fields on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatcherBenchmark {
+
+    private PostDto existing;
+    private PostDto[] patches;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        existing = PostDto.builder()
+                .id(UUID.randomUUID())
+                .title("Original title")
+                .content(BenchmarkFixtures.content(5_000))
+                .readingTime(5)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .postStatus(PostStatus.DRAFT)
+                .build();
+        patches = new PostDto[]{
+                PostDto.builder().title("Patched title").postStatus(PostStatus.PUBLISHED).build(),
+                PostDto.builder().title("Original title").postStatus(PostStatus.DRAFT).build()
+        };
+    }
+
+    @Benchmark
+    public boolean patch() {
+        return Patcher.patch(existing, nextPatch());
+    }
+
+    @Benchmark
+    public boolean reflective() throws IllegalAccessException {
+        PostDto patch = nextPatch();
+        boolean isObjectChanged = false;
+        for (Field field : PostDto.class.getDeclaredFields()) {
+            field.setAccessible(true);
+            Object fieldValue = field.get(patch);
+            if (fieldValue != null) {
+                field.set(existing, fieldValue);
+                isObjectChanged = true;
+            }
+            field.setAccessible(false);
+        }
+        return isObjectChanged;
+    }
+
+    private PostDto nextPatch() {
+        next ^= 1;
+        return patches[next];
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.blogplatform.benchmarks;
+
+import com.example.blogplatform.domain.ids.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares insert throughput of random (v4) and time-ordered (v7) primary keys on a table shaped like
+ * {@code posts} plus its {@code post_tags} join table.
+ * <p>
+ * Runs against an in-memory H2 database by default. Pass a PostgreSQL URL to measure a real B-tree and
+ * print the resulting index sizes, e.g.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="UuidInsertBenchmark -p jdbcUrl=jdbc:postgresql://localhost:5432/blog -jvmArgs -Dbench.db.user=postgres -jvmArgs -Dbench.db.password=secret"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int TAGS_PER_POST = 3;
+
+    @Param({"V4", "V7"})
+    public String version;
+
+    @Param("jdbc:h2:mem:uuid_bench;DB_CLOSE_DELAY=-1")
+    public String jdbcUrl;
+
+    private Supplier<UUID> ids;
+    private UUID[] tagIds;
+    private Connection connection;
+    private PreparedStatement insertPost;
+    private PreparedStatement insertPostTag;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        ids = "V7".equals(version) ? UuidV7::next : UUID::randomUUID;
+        connection = DriverManager.getConnection(jdbcUrl,
+                System.getProperty("bench.db.user", "sa"), System.getProperty("bench.db.password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_post_tags");
+            statement.execute("DROP TABLE IF EXISTS bench_posts");
+            statement.execute("CREATE TABLE bench_posts (id UUID PRIMARY KEY, title VARCHAR(255) NOT NULL, "
+                    + "content TEXT NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE bench_post_tags (post_id UUID NOT NULL REFERENCES bench_posts(id), "
+                    + "tag_id UUID NOT NULL, PRIMARY KEY (post_id, tag_id))");
+        }
+        tagIds = new UUID[16];
+        for (int i = 0; i < tagIds.length; i++) {
+            tagIds[i] = UUID.randomUUID();
+        }
+        connection.setAutoCommit(false);
+        insertPost = connection.prepareStatement(
+                "INSERT INTO bench_posts (id, title, content, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)");
+        insertPostTag = connection.prepareStatement("INSERT INTO bench_post_tags (post_id, tag_id) VALUES (?, ?)");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertPosts() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            UUID id = ids.get();
+            insertPost.setObject(1, id);
+            insertPost.setString(2, "Benchmark post");
+            insertPost.setString(3, "Lorem ipsum dolor sit amet, consectetur adipiscing elit.");
+            insertPost.addBatch();
+            for (int t = 0; t < TAGS_PER_POST; t++) {
+                insertPostTag.setObject(1, id);
+                insertPostTag.setObject(2, tagIds[(i + t) % tagIds.length]);
+                insertPostTag.addBatch();
+            }
+        }
+        insertPost.executeBatch();
+        insertPostTag.executeBatch();
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT (SELECT count(*) FROM bench_posts), "
+                         + "pg_relation_size('bench_posts_pkey'), pg_relation_size('bench_post_tags_pkey')")) {
+                rs.next();
+                System.out.printf("%n[%s] rows=%d posts_pkey=%d bytes post_tags_pkey=%d bytes%n",
+                        version, rs.getLong(1), rs.getLong(2), rs.getLong(3));
+            }
+        }
+        insertPost.close();
+        insertPostTag.close();
+        connection.close();
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.blogplatform.loadtest;
+
+import com.example.blogplatform.BlogPlatformApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load test of the blog API.
+ * <p>
+ * Requests are issued at a fixed arrival rate, regardless of how fast earlier ones complete. Each request is
+ * served by one of {@code users} virtual users; when all of them are busy, new arrivals queue. Latency is measured
+ * from the time a request was <em>scheduled</em> rather than sent, so queueing caused by a slow server is included
+ * instead of silently lowering the offered load (coordinated omission).
+ * <p>
+ * Without a {@code target}, the application is started in this JVM on a random port, on an in-memory H2
+ * database or on the Postgres instance from docker-compose.yml. See {@link LoadTestOptions} for all options.
+ */
+public final class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadTestOptions options;
+    private final LoadTestContext context;
+    private final Map<Scenario, Recorder> latencies = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    private LoadTest(LoadTestOptions options, LoadTestContext context) {
+        this.options = options;
+        this.context = context;
+        for (Scenario scenario : Scenario.values()) {
+            latencies.put(scenario, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(scenario, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext application = options.target() == null ? start(options) : null;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(options.users(), 64));
+        try {
+            URI baseUri = application != null
+                    ? URI.create("http://localhost:" + application.getEnvironment().getProperty("local.server.port"))
+                    : options.target();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .build();
+            LoadTestContext context = new LoadTestContext(baseUri, client, options);
+            System.out.printf("Seeding %s with %d categories, %d tags and %d posts%n",
+                    baseUri, options.categories(), options.tags(), options.posts());
+            context.seed();
+            new LoadTest(options, context).run();
+        } finally {
+            executor.shutdownNow();
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestOptions options) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.docker.compose.enabled", "false");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql", "WARN");
+        // All virtual users log in from one address; pass lower limits to load test the limiter itself
+        properties.put("blog.login-rate-limit.per-ip.burst", "1000000");
+        properties.put("blog.login-rate-limit.per-ip.per-minute", "1000000");
+        properties.put("blog.login-rate-limit.per-email.burst", "1000000");
+        properties.put("blog.login-rate-limit.per-email.per-minute", "1000000");
+        if (options.postgres()) {
+            properties.put("spring.datasource.url", options.jdbcUrl());
+            properties.put("spring.datasource.username", options.dbUser());
+            properties.put("spring.datasource.password", options.dbPassword());
+            properties.put("spring.datasource.driver-class-name", "org.postgresql.Driver");
+            properties.put("spring.jpa.database-platform", "org.hibernate.dialect.PostgreSQLDialect");
+            properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        } else {
+            properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                    + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+            properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+            properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+            properties.put("spring.flyway.enabled", "false");
+        }
+        properties.putAll(options.applicationProperties());
+        // Passed as command line arguments to take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(BlogPlatformApplication.class).run(args);
+    }
+
+    private void run() throws IOException, InterruptedException {
+        BlockingQueue<String> idleUsers = new ArrayBlockingQueue<>(options.users());
+        for (int i = 0; i < options.users(); i++) {
+            idleUsers.add(context.login());
+        }
+        Scenario[] wheel = weightedWheel();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        System.out.printf("Running %d users at %d requests/s: %s warm-up, %s measured%n",
+                options.users(), options.rate(), options.warmup(), options.duration());
+
+        long measuredRequests = 0;
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * intervalNanos;
+            if (scheduled >= end) {
+                break;
+            }
+            long delay = scheduled - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Scenario scenario = wheel[random.nextInt(wheel.length)];
+            boolean measured = scheduled >= measureFrom;
+            if (measured) {
+                measuredRequests++;
+            }
+
+            String token = idleUsers.take();
+            context.client()
+                    .sendAsync(scenario.request(context, token, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        if (measured) {
+                            record(scenario, scheduled, response, failure);
+                        }
+                        idleUsers.add(token);
+                    });
+        }
+        for (int i = 0; i < options.users(); i++) {
+            if (idleUsers.poll(1, TimeUnit.MINUTES) == null) {
+                System.out.println("Gave up waiting for outstanding requests");
+                break;
+            }
+        }
+        report(measuredRequests);
+    }
+
+    /**
+     * Empty listings are answered with 404 by this API, so only other client errors count as failures.
+     */
+    private void record(Scenario scenario, long scheduled, HttpResponse<Void> response, Throwable failure) {
+        int status = response != null ? response.statusCode() : -1;
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (failure != null || (status >= 400 && status != 404)) {
+            errors.get(scenario).increment();
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+        latencies.get(scenario).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+
+    private Scenario[] weightedWheel() {
+        List<Scenario> wheel = new ArrayList<>();
+        options.mix().forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(scenario);
+            }
+        });
+        return wheel.toArray(Scenario[]::new);
+    }
+
+    private void report(long measuredRequests) throws IOException {
+        Files.createDirectories(options.output());
+        double seconds = options.duration().toNanos() / 1e9;
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+
+        System.out.printf("%n%-10s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = latencies.get(scenario).getIntervalHistogram();
+            long errorCount = errors.get(scenario).sum();
+            if (histogram.getTotalCount() == 0 && errorCount == 0) {
+                continue;
+            }
+            total.add(histogram);
+            scenarios.put(scenario.key, row(scenario.key, histogram, errorCount, seconds));
+            try (PrintStream out = new PrintStream(options.output().resolve(scenario.key + ".hgrm").toFile())) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        long totalErrors = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        summary.put("total", row("total", total, totalErrors, seconds));
+        summary.put("scenarios", scenarios);
+        summary.put("offeredRate", options.rate());
+        summary.put("offeredRequests", measuredRequests);
+        summary.put("users", options.users());
+        summary.put("durationSeconds", seconds);
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(String.valueOf(status), count.sum()));
+        summary.put("statuses", statusCounts);
+
+        try (PrintStream out = new PrintStream(options.output().resolve("total.hgrm").toFile())) {
+            total.outputPercentileDistribution(out, 1000.0);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(options.output().resolve("summary.json").toFile(), summary);
+        System.out.printf("%nStatus codes: %s%nReport written to %s%n", statusCounts, options.output().toAbsolutePath());
+    }
+
+    private static Map<String, Object> row(String name, Histogram histogram, long errorCount, double seconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("requests", histogram.getTotalCount());
+        row.put("errors", errorCount);
+        row.put("throughput", histogram.getTotalCount() / seconds);
+        row.put("p50", millis(histogram.getValueAtPercentile(50)));
+        row.put("p95", millis(histogram.getValueAtPercentile(95)));
+        row.put("p99", millis(histogram.getValueAtPercentile(99)));
+        row.put("p99.9", millis(histogram.getValueAtPercentile(99.9)));
+        row.put("max", millis(histogram.getMaxValue()));
+        System.out.printf("%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                histogram.getTotalCount(), errorCount, row.get("throughput"),
+                row.get("p50"), row.get("p95"), row.get("p99"), row.get("p99.9"), row.get("max"));
+        return row;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.blogplatform.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The target application and the data seeded into it, shared by all virtual users.
+ */
+final class LoadTestContext {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String CONTENT = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(40);
+
+    private final URI baseUri;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoadTestOptions options;
+
+    private final List<UUID> categoryIds = new ArrayList<>();
+    private final List<UUID> tagIds = new ArrayList<>();
+    private final List<UUID> postIds = new ArrayList<>();
+
+    LoadTestContext(URI baseUri, HttpClient client, LoadTestOptions options) {
+        this.baseUri = baseUri;
+        this.client = client;
+        this.options = options;
+    }
+
+    HttpClient client() {
+        return client;
+    }
+
+    /**
+     * Creates the categories, tags and published posts the read scenarios pick from.
+     */
+    void seed() throws IOException, InterruptedException {
+        String token = login();
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < options.categories(); i++) {
+            categoryIds.add(create("/api/v1/categories", token, Map.of("name", "load-" + run + "-" + i)));
+        }
+        for (int i = 0; i < options.tags(); i++) {
+            tagIds.add(create("/api/v1/tags", token, Map.of("name", "load-" + run + "-" + i)));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < options.posts(); i++) {
+            postIds.add(create("/api/v1/posts", token, newPost(random, "PUBLISHED")));
+        }
+    }
+
+    /**
+     * Logs in with the configured credentials.
+     *
+     * @return the issued bearer token
+     */
+    String login() throws IOException, InterruptedException {
+        return execute(loginRequest()).path("data").path("token").asText();
+    }
+
+    HttpRequest loginRequest() {
+        return send("POST", "/api/v1/auth", null, Map.of("email", options.email(), "password", options.password()));
+    }
+
+    HttpRequest get(String path, String token) {
+        return builder(path, token).GET().build();
+    }
+
+    HttpRequest send(String method, String path, String token, Object body) {
+        try {
+            return builder(path, token)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    Map<String, Object> newPost(ThreadLocalRandom random, String status) {
+        Set<UUID> postTagIds = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            postTagIds.add(randomTagId(random));
+        }
+        Map<String, Object> post = new HashMap<>();
+        post.put("title", "Load test post " + random.nextInt(1_000_000));
+        post.put("content", CONTENT);
+        post.put("categoryId", randomCategoryId(random));
+        post.put("tagIds", postTagIds);
+        post.put("status", status);
+        return post;
+    }
+
+    UUID randomCategoryId(ThreadLocalRandom random) {
+        return categoryIds.get(random.nextInt(categoryIds.size()));
+    }
+
+    UUID randomTagId(ThreadLocalRandom random) {
+        return tagIds.get(random.nextInt(tagIds.size()));
+    }
+
+    UUID randomPostId(ThreadLocalRandom random) {
+        return postIds.get(random.nextInt(postIds.size()));
+    }
+
+    private UUID create(String path, String token, Object body) throws IOException, InterruptedException {
+        return UUID.fromString(execute(send("POST", path, token, body)).path("data").path("id").asText());
+    }
+
+    private JsonNode execute(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " failed with "
+                    + response.statusCode() + ": " + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.blogplatform.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Settings of a load test run, parsed from {@code key=value} arguments.
+ * <ul>
+ *     <li>{@code target} – base URL of a running application; when absent the application is started in-process</li>
+ *     <li>{@code db} – {@code h2} (default) or {@code postgres}, for the in-process application</li>
+ *     <li>{@code jdbc-url}, {@code db-user}, {@code db-password} – Postgres connection, defaulting to docker-compose.yml</li>
+ *     <li>{@code users} – number of virtual users, i.e. the maximum number of requests in flight (default 20)</li>
+ *     <li>{@code rate} – request arrival rate per second, independent of response times (default 100)</li>
+ *     <li>{@code warmup}, {@code duration} – e.g. {@code 10s}, {@code 2m} (defaults 10s and 30s)</li>
+ *     <li>{@code categories}, {@code tags}, {@code posts} – data seeded before the run (defaults 5, 20, 200)</li>
+ *     <li>{@code mix} – scenario weights, e.g. {@code list=50,read=50}; omitted scenarios keep their default weight</li>
+ *     <li>{@code email}, {@code password} – credentials of the virtual users (default: the seeded test user)</li>
+ *     <li>{@code output} – directory for the report and histogram logs</li>
+ *     <li>{@code spring.*}, {@code blog.*}, {@code server.*}, {@code management.*} – passed on to the in-process application</li>
+ * </ul>
+ */
+record LoadTestOptions(
+        URI target,
+        boolean postgres,
+        String jdbcUrl,
+        String dbUser,
+        String dbPassword,
+        int users,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int categories,
+        int tags,
+        int posts,
+        Map<Scenario, Integer> mix,
+        String email,
+        String password,
+        Path output,
+        Map<String, String> applicationProperties
+) {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of(
+            "target", "db", "jdbc-url", "db-user", "db-password", "users", "rate", "warmup", "duration",
+            "categories", "tags", "posts", "mix", "email", "password", "output");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        Map<String, String> applicationProperties = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            String key = arg.substring(0, separator);
+            String value = arg.substring(separator + 1);
+            if (key.startsWith("spring.") || key.startsWith("blog.")
+                    || key.startsWith("server.") || key.startsWith("management.")) {
+                applicationProperties.put(key, value);
+            } else {
+                options.put(key, value);
+            }
+        }
+
+        String db = options.getOrDefault("db", "h2");
+        if (!db.equals("h2") && !db.equals("postgres")) {
+            throw new IllegalArgumentException("db must be h2 or postgres, got: " + db);
+        }
+        LoadTestOptions parsed = new LoadTestOptions(
+                options.containsKey("target") ? URI.create(options.get("target")) : null,
+                db.equals("postgres"),
+                options.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/postgres"),
+                options.getOrDefault("db-user", "postgres"),
+                options.getOrDefault("db-password", "changemeinprod!"),
+                positive(options, "users", 20),
+                positive(options, "rate", 100),
+                DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(options.getOrDefault("duration", "30s")),
+                positive(options, "categories", 5),
+                positive(options, "tags", 20),
+                positive(options, "posts", 200),
+                parseMix(options.getOrDefault("mix", "")),
+                options.getOrDefault("email", "user@test.com"),
+                options.getOrDefault("password", "password"),
+                Path.of(options.getOrDefault("output", "target/loadtest")),
+                applicationProperties
+        );
+        options.keySet().removeAll(KNOWN_OPTIONS);
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return parsed;
+    }
+
+    private static int positive(Map<String, String> options, String key, int defaultValue) {
+        int value = options.containsKey(key) ? Integer.parseInt(options.get(key)) : defaultValue;
+        if (value < 1) {
+            throw new IllegalArgumentException(key + " must be positive, got: " + value);
+        }
+        return value;
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            weights.put(scenario, scenario.defaultWeight);
+        }
+        for (String entry : mix.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario=weight in mix, got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Scenario weight must not be negative, got: " + entry);
+            }
+            weights.put(Scenario.byKey(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().allMatch(weight -> weight == 0)) {
+            throw new IllegalArgumentException("At least one scenario needs a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.blogplatform.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The requests a virtual user can issue, with their default share of the traffic.
+ */
+enum Scenario {
+
+    LIST("list", 30) {
+        @Override
+        HttpRequest request(LoadTestContext context, String token, ThreadLocalRandom random) {
+            return context.get("/api/v1/posts?size=20", null);
+        }
+    },
+    LIST_FILTERED("filter", 20) {
+        @Override
+        HttpRequest request(LoadTestContext context, String token, ThreadLocalRandom random) {
+            return random.nextBoolean()
+                    ? context.get("/api/v1/posts?size=20&categoryId=" + context.randomCategoryId(random), null)
+                    : context.get("/api/v1/posts?size=20&tagId=" + context.randomTagId(random), null);
+        }
+    },
+    READ("read", 30) {
+        @Override
+        HttpRequest request(LoadTestContext context, String token, ThreadLocalRandom random) {
+            return context.get("/api/v1/posts/" + context.randomPostId(random), null);
+        }
+    },
+    LOGIN("login", 5) {
+        @Override
+        HttpRequest request(LoadTestContext context, String token, ThreadLocalRandom random) {
+            return context.loginRequest();
+        }
+    },
+    DRAFTS("drafts", 5) {
+        @Override
+        HttpRequest request(LoadTestContext context, String token, ThreadLocalRandom random) {
+            return context.get("/api/v1/posts/drafts?size=20", token);
+        }
+    },
+    CREATE("create", 5) {
+        @Override
+        HttpRequest request(LoadTestContext context, String token, ThreadLocalRandom random) {
+            return context.send("POST", "/api/v1/posts", token, context.newPost(random, "DRAFT"));
+        }
+    },
+    UPDATE("update", 5) {
+        @Override
+        HttpRequest request(LoadTestContext context, String token, ThreadLocalRandom random) {
+            return context.send("PATCH", "/api/v1/posts/" + context.randomPostId(random), token,
+                    Map.of("title", "Updated " + random.nextInt(1_000_000)));
+        }
+    };
+
+    final String key;
+    final int defaultWeight;
+
+    Scenario(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * Builds the next request of this scenario.
+     *
+     * @param token the bearer token of the virtual user issuing the request
+     */
+    abstract HttpRequest request(LoadTestContext context, String token, ThreadLocalRandom random);
+
+    static Scenario byKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equals(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + key);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.blogplatform.config;
+
+import com.example.blogplatform.domain.dtos.PostDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration of the application's in-process caches.
+ * <p>
+ * This configuration:
+ * <ul>
+ *     <li>Registers a bounded Caffeine cache (W-TinyLFU eviction) of {@link PostDto} keyed by post id.</li>
+ *     <li>Weighs entries by their approximate size, so a few very long posts cannot crowd out the rest.</li>
+ *     <li>Registers a short-lived cache of users resolved from JWTs that could not be authenticated from
+ *     their claims alone.</li>
+ *     <li>Records hit, miss and eviction statistics, which are published through actuator metrics.</li>
+ *     <li>Wraps the manager in a {@link TransactionAwareCacheManagerProxy}, so puts and evictions issued
+ *     inside a transaction are applied only after it commits.</li>
+ * </ul>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String POSTS_CACHE = "posts";
+    public static final String VERIFIED_TOKENS_CACHE = "verifiedTokens";
+
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${blog.cache.posts.max-weight:67108864}") long postsMaxWeight,
+            @Value("${blog.cache.posts.ttl:10m}") Duration postsTtl,
+            @Value("${blog.cache.verified-tokens.max-size:10000}") long verifiedTokensMaxSize,
+            @Value("${blog.cache.verified-tokens.ttl:5m}") Duration verifiedTokensTtl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(POSTS_CACHE, Caffeine.newBuilder()
+                .maximumWeight(postsMaxWeight)
+                .weigher((Object key, Object value) -> weighPost(value))
+                .expireAfterWrite(postsTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(VERIFIED_TOKENS_CACHE, Caffeine.newBuilder()
+                .maximumSize(verifiedTokensMaxSize)
+                .expireAfterWrite(verifiedTokensTtl)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    /**
+     * Estimates the retained size of a cached post in bytes, dominated by its title and content.
+     */
+    private static int weighPost(Object value) {
+        if (!(value instanceof PostDto post)) {
+            return ENTRY_OVERHEAD_BYTES;
+        }
+        long chars = (post.getContent() == null ? 0 : post.getContent().length())
+                + (post.getTitle() == null ? 0 : post.getTitle().length());
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + 2 * chars);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.blogplatform.config;
+
+import com.example.blogplatform.datasource.ReadYourWrites;
+import com.example.blogplatform.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of read replicas, active once {@code blog.datasource.replicas.urls} lists at least one
+ * JDBC URL. Without it, Spring Boot's single auto-configured {@link DataSource} is used.
+ * <p>
+ * This configuration:
+ * <ul>
+ *     <li>Creates the primary pool from the usual {@code spring.datasource.*} properties.</li>
+ *     <li>Creates a read-only Hikari pool per replica, sharing the primary's credentials and driver unless
+ *     {@code blog.datasource.replicas.username} and {@code password} are set, and publishing the usual
+ *     {@code hikaricp.*} pool metrics.</li>
+ *     <li>Exposes a {@link LazyConnectionDataSourceProxy} as the application's {@link DataSource}: it fetches a
+ *     connection only when the first statement runs, by which time the transaction manager has marked it
+ *     read-only or not, and takes the connections of read-only transactions from the {@link ReplicaDataSource}.</li>
+ *     <li>Registers {@link ReadYourWrites}, so a request reads from the primary once it has written.</li>
+ * </ul>
+ * Reads outside of a read-only transaction, including everything in a read-write transaction, go to the primary.
+ */
+@Configuration
+@ConditionalOnProperty("blog.datasource.replicas.urls")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(
+            DataSourceProperties properties,
+            HikariDataSource primaryDataSource,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${blog.datasource.replicas.urls}") List<String> urls,
+            @Value("${blog.datasource.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${blog.datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${blog.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${blog.datasource.replicas.selection:round-robin}") ReplicaDataSource.Selection selection,
+            @Value("${blog.datasource.replicas.eject-for:30s}") Duration ejectFor
+    ) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            meterRegistry.ifAvailable(registry ->
+                    replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        return new ReplicaDataSource(replicas, primaryDataSource, selection, ejectFor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites() {
+        return new ReadYourWrites();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.blogplatform.config;
+
+import com.example.blogplatform.diagnostics.StatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of runtime diagnostics.
+ * <p>
+ * Registers the {@link StatementCounter} as Hibernate's statement inspector, so
+ * {@link com.example.blogplatform.diagnostics.StatementBudgetFilter} can count the statements of
+ * every request.
+ */
+@Configuration
+public class DiagnosticsConfig {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.blogplatform.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Configuration of the threads that run request handling and background work.
+ * <p>
+ * The execution mode is chosen with Spring Boot's {@code spring.threads.virtual.enabled} property:
+ * <ul>
+ *     <li>{@code false} (default): Tomcat's platform-thread pool serves requests and {@code @Async}
+ *     methods run on Boot's bounded {@code applicationTaskExecutor}.</li>
+ *     <li>{@code true}: on Java 21 or newer, Boot runs Tomcat requests, the {@code applicationTaskExecutor}
+ *     and therefore every {@code @Async} background job on virtual threads. Concurrency is then
+ *     bounded by the Hikari pool ({@code spring.datasource.hikari.maximum-pool-size}) rather than by
+ *     the thread count, and pinned virtual threads are reported by
+ *     {@link com.example.blogplatform.diagnostics.VirtualThreadPinningMonitor}.</li>
+ * </ul>
+ * Virtual threads are not available on older runtimes; the property is then ignored with a warning.
+ */
+@Configuration
+@EnableAsync
+@Slf4j
+public class ExecutionConfig {
+
+    private static final int VIRTUAL_THREADS_MIN_JAVA_VERSION = 21;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @PostConstruct
+    void logExecutionMode() {
+        int javaVersion = Runtime.version().feature();
+        if (!virtualThreadsEnabled) {
+            log.info("Handling requests on platform threads");
+        } else if (javaVersion < VIRTUAL_THREADS_MIN_JAVA_VERSION) {
+            log.warn("spring.threads.virtual.enabled is set, but virtual threads require Java {} (running on {}); "
+                    + "falling back to platform threads", VIRTUAL_THREADS_MIN_JAVA_VERSION, javaVersion);
+        } else {
+            log.info("Handling requests and background jobs on virtual threads");
+        }
+    }
+}
@@ -5,6 +5,9 @@ import com.example.blogplatform.repositories.UserRepository;
 import com.example.blogplatform.security.BlogUserDetailsService;
 import com.example.blogplatform.security.JwtAuthenticationFilter;
 import com.example.blogplatform.services.AuthenticationService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,18 +16,22 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 /**
  * Configuration class for setting up Spring Security for the blog platform.
  * <p>
  * This configuration:
  * <ul>
- *     <li>Permits all GET requests to public blog endpoints (posts, categories, tags).</li>
+ *     <li>Permits all GET requests to public blog endpoints (posts, categories, tags),
+ *     except for drafts and the bulk export.</li>
  *     <li>Requires authentication for all other endpoints.</li>
  *     <li>Disables CSRF protection (suitable for stateless APIs).</li>
  *     <li>Configures the application to use stateless session management.</li>
@@ -39,15 +46,19 @@ public class SecurityConfig {
         return new JwtAuthenticationFilter(authenticationService);
     }
 
+    /**
+     * Loads users for authentication and, being the application's {@code UserDetailsPasswordService},
+     * stores rehashed passwords when a login reveals an outdated hash.
+     */
     @Bean
-    public UserDetailsService userDetailsService(UserRepository userRepository) {
+    public BlogUserDetailsService userDetailsService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         BlogUserDetailsService blogUserDetailsService = new BlogUserDetailsService(userRepository);
 
         String email = "user@test.com";
         userRepository.findByEmail(email).orElseGet(() -> userRepository.save(User.builder()
                 .name("Test User")
                 .email(email)
-                .password(passwordEncoder().encode("password"))
+                .password(passwordEncoder.encode("password"))
                 .build()
         ));
         return blogUserDetailsService;
@@ -59,6 +70,8 @@ public class SecurityConfig {
      * This filter chain:
      * <ul>
      *     <li>Allows unauthenticated access to certain GET endpoints.</li>
+     *     <li>Allows unauthenticated access to the actuator health and Prometheus scrape endpoints.</li>
+     *     <li>Permits async dispatches of requests that were already authorized (e.g. streamed responses).</li>
      *     <li>Requires authentication for all other requests.</li>
      *     <li>Disables CSRF protection (since the API is stateless).</li>
      *     <li>Configures stateless session management to avoid using HTTP sessions.</li>
@@ -72,8 +85,11 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
         http
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth").permitAll()
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/drafts").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/posts/export").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/tags/**").permitAll()
@@ -91,14 +107,20 @@ public class SecurityConfig {
     /**
      * Defines a {@link PasswordEncoder} bean.
      * <p>
-     * Uses a delegating password encoder which supports multiple encoding formats
-     * (e.g., bcrypt, PBKDF2, etc.) and provides backward compatibility with legacy encodings.
+     * New passwords are hashed with bcrypt at the work factor {@code blog.password-hashing.bcrypt-strength}.
+     * Hashes in any other format supported by Spring Security's delegating password encoder (e.g. PBKDF2
+     * or legacy encodings) are still accepted. On a successful login, passwords stored in another format
+     * or with a lower bcrypt work factor are transparently rehashed with the current settings.
      *
+     * @param bcryptStrength the bcrypt work factor (log2 of the number of rounds)
      * @return a delegating {@link PasswordEncoder}
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${blog.password-hashing.bcrypt-strength:10}") int bcryptStrength) {
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return passwordEncoder;
     }
 
     /**
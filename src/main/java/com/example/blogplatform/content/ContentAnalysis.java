@@ -0,0 +1,12 @@
+package com.example.blogplatform.content;
+
+/**
+ * Derived facts about a post's content, computed by {@link ContentAnalyzer}.
+ *
+ * @param wordCount   the number of whitespace-separated words
+ * @param readingTime the estimated reading time in minutes
+ * @param excerpt     the beginning of the content as plain text, at most {@link ContentAnalyzer#EXCERPT_LENGTH} characters
+ * @param contentHash a 64-bit FNV-1a hash of the content as 16 hex digits
+ */
+public record ContentAnalysis(int wordCount, int readingTime, String excerpt, String contentHash) {
+}
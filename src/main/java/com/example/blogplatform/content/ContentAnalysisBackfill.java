@@ -0,0 +1,57 @@
+package com.example.blogplatform.content;
+
+import com.example.blogplatform.domain.entities.Post;
+import com.example.blogplatform.repositories.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills the derived content columns of posts created before they existed.
+ * <p>
+ * Runs in the background once the application is ready, analyzing posts without a content hash in batches,
+ * each in its own transaction. The columns are written with a bulk update so {@code updatedAt}
+ * keeps reflecting the last edit by the author. Posts written afterwards are analyzed on create and update,
+ * so this is a no-op once every row has been migrated.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContentAnalysisBackfill {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${blog.content.backfill-batch-size:500}")
+    private int batchSize;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int total = 0;
+        Integer updated;
+        do {
+            updated = transactionTemplate.execute(status -> {
+                List<Post> posts = postRepository.findByContentHashIsNull(Limit.of(batchSize));
+                for (Post post : posts) {
+                    ContentAnalysis analysis = ContentAnalyzer.analyze(post.getContent());
+                    postRepository.updateContentAnalysis(post.getId(), analysis.wordCount(), analysis.readingTime(),
+                            analysis.excerpt(), analysis.contentHash());
+                }
+                return posts.size();
+            });
+            total += updated;
+        } while (updated == batchSize);
+        if (total > 0) {
+            log.info("Analyzed content of {} existing posts", total);
+        }
+    }
+}
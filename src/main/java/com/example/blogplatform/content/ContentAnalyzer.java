@@ -0,0 +1,115 @@
+package com.example.blogplatform.content;
+
+import java.util.HexFormat;
+
+/**
+ * Computes word count, reading time, excerpt and hash of a post's content in a single pass.
+ * <p>
+ * The content is scanned character by character without regular expressions or per-word
+ * allocations; the only objects created are the excerpt and hash strings. The excerpt is
+ * plain text: HTML tags and the Markdown markers {@code # * _ `} are dropped and runs of
+ * whitespace are collapsed into a single space.
+ */
+public final class ContentAnalyzer {
+
+    public static final int WORDS_PER_MINUTE = 200;
+    public static final int EXCERPT_LENGTH = 200;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char ELLIPSIS = '…';
+
+    private ContentAnalyzer() {
+    }
+
+    /**
+     * Analyzes {@code content}.
+     *
+     * @param content the content to analyze; {@code null} is treated as empty
+     * @return the analysis result
+     */
+    public static ContentAnalysis analyze(String content) {
+        if (content == null) {
+            content = "";
+        }
+        int length = content.length();
+        char[] excerpt = new char[EXCERPT_LENGTH];
+        int excerptLength = 0;
+        boolean excerptFull = false;
+        boolean insideTag = false;
+        boolean pendingSpace = false;
+        boolean insideWord = false;
+        int wordCount = 0;
+        long hash = FNV_OFFSET_BASIS;
+
+        for (int i = 0; i < length; i++) {
+            char c = content.charAt(i);
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+
+            boolean whitespace = Character.isWhitespace(c);
+            if (!whitespace && !insideWord) {
+                wordCount++;
+            }
+            insideWord = !whitespace;
+
+            if (excerptFull) {
+                continue;
+            }
+            if (insideTag) {
+                insideTag = c != '>';
+                continue;
+            }
+            if (c == '<') {
+                insideTag = true;
+                continue;
+            }
+            if (whitespace) {
+                pendingSpace = excerptLength > 0;
+                continue;
+            }
+            if (c == '#' || c == '*' || c == '_' || c == '`') {
+                continue;
+            }
+            if (pendingSpace) {
+                if (excerptLength >= EXCERPT_LENGTH - 1) {
+                    excerptFull = true;
+                    continue;
+                }
+                excerpt[excerptLength++] = ' ';
+                pendingSpace = false;
+            }
+            if (excerptLength == EXCERPT_LENGTH) {
+                excerptFull = true;
+                continue;
+            }
+            excerpt[excerptLength++] = c;
+        }
+
+        if (excerptFull) {
+            excerptLength = truncateAtWordBoundary(excerpt, excerptLength);
+        }
+        int readingTime = (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE;
+        return new ContentAnalysis(
+                wordCount,
+                readingTime,
+                new String(excerpt, 0, excerptLength),
+                HexFormat.of().toHexDigits(hash));
+    }
+
+    /**
+     * Shortens a full excerpt to its last complete word and appends an ellipsis.
+     */
+    private static int truncateAtWordBoundary(char[] excerpt, int length) {
+        int end = length - 1;
+        int lastSpace = end;
+        while (lastSpace > EXCERPT_LENGTH / 2 && excerpt[lastSpace] != ' ') {
+            lastSpace--;
+        }
+        if (excerpt[lastSpace] == ' ') {
+            end = lastSpace;
+        }
+        excerpt[end] = ELLIPSIS;
+        return end + 1;
+    }
+}
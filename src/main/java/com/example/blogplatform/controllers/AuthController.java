@@ -2,8 +2,10 @@ package com.example.blogplatform.controllers;
 
 import com.example.blogplatform.domain.dtos.AuthResponse;
 import com.example.blogplatform.domain.dtos.LoginRequest;
+import com.example.blogplatform.security.LoginRateLimiter;
 import com.example.blogplatform.services.AuthenticationService;
 import com.example.blogplatform.utils.GenericResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,24 +15,32 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping(path = "/api/v1/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthenticationService authenticationService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @PostMapping
-    public ResponseEntity<GenericResponse<AuthResponse>> login(@RequestBody LoginRequest loginRequest) {
-        UserDetails userDetails = authenticationService.authenticate(
+    public CompletableFuture<ResponseEntity<GenericResponse<AuthResponse>>> login(
+            @RequestBody LoginRequest loginRequest,
+            HttpServletRequest request
+    ) {
+        loginRateLimiter.acquire(request.getRemoteAddr(), loginRequest.getEmail());
+        return authenticationService.authenticate(
                 loginRequest.getEmail(),
                 loginRequest.getPassword()
-        );
-        String tokenValue = authenticationService.generateToken(userDetails);
-        AuthResponse authResponse = AuthResponse.builder()
-                .token(tokenValue)
-                .expiresIn(86400)
-                .build();
-        return GenericResponse.success("Login successful", HttpStatus.OK, authResponse);
+        ).thenApply(userDetails -> {
+            String tokenValue = authenticationService.generateToken(userDetails);
+            AuthResponse authResponse = AuthResponse.builder()
+                    .token(tokenValue)
+                    .expiresIn(86400)
+                    .build();
+            return GenericResponse.success("Login successful", HttpStatus.OK, authResponse);
+        });
     }
 }
@@ -1,14 +1,17 @@
 package com.example.blogplatform.controllers;
 
+import com.example.blogplatform.domain.ContentKind;
 import com.example.blogplatform.domain.dtos.CategoryDto;
 import com.example.blogplatform.domain.dtos.CreateCategoryRequest;
 import com.example.blogplatform.services.CategoryService;
 import com.example.blogplatform.utils.GenericResponse;
 import com.example.blogplatform.utils.ResponseMessage;
+import com.example.blogplatform.web.ContentVersions;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,6 +29,7 @@ import java.util.UUID;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ContentVersions contentVersions;
 
     /**
      * Retrieves a list of all blog post categories.
@@ -38,10 +42,18 @@ public class CategoryController {
      *     <li>{@code 200 OK} with an empty list and a message indicating no categories found if none exist.</li>
      * </ul>
      *
-     * @return a {@link ResponseEntity} containing the categories wrapped in a {@link GenericResponse}
+     * <p>Answers with {@code 304 Not Modified} and no body if the client's copy, identified by
+     * {@code If-None-Match} or {@code If-Modified-Since}, is still current.</p>
+     *
+     * @param request the current request, used to validate conditional headers
+     * @return a {@link ResponseEntity} containing the categories wrapped in a {@link GenericResponse},
+     *         or {@code null} once a 304 response has been prepared
      */
     @GetMapping
-    public ResponseEntity<GenericResponse<List<CategoryDto>>> listCategories() {
+    public ResponseEntity<GenericResponse<List<CategoryDto>>> listCategories(WebRequest request) {
+        if (contentVersions.checkNotModified(request, ContentKind.CATEGORIES, ContentKind.POSTS)) {
+            return null;
+        }
         List<CategoryDto> categories = categoryService.listCategories();
         if (!categories.isEmpty()) {
             return GenericResponse.success(ResponseMessage.CATEGORIES_FOUND.message, ResponseMessage.CATEGORIES_FOUND.status, categories);
@@ -1,11 +1,14 @@
 package com.example.blogplatform.controllers;
 
+import com.example.blogplatform.security.RateLimitExceededException;
 import com.example.blogplatform.utils.GenericResponse;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.ConstraintViolationException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -27,7 +31,10 @@ import java.util.stream.Collectors;
  *     <li>Constraint violations from {@code @RequestParam}, {@code @PathVariable}, etc.</li>
  *     <li>Malformed JSON input (deserialization issues)</li>
  *     <li>Business logic or data integrity violations (e.g., illegal state, bad arguments)</li>
+ *     <li>Conflicting concurrent updates detected by optimistic locking</li>
  *     <li>Authentication failures such as invalid login credentials</li>
+ *     <li>Exceeded rate limits, answered with {@code Retry-After}</li>
+ *     <li>Work rejected by a saturated executor, such as password hashing</li>
  *     <li>Generic unhandled exceptions</li>
  * </ul>
  *
@@ -140,6 +147,47 @@ public class ErrorController {
         return GenericResponse.error("Incorrect username or password.", HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * Handles updates based on a stale version of an entity, either detected on write because of a
+     * concurrent update or because the client sent an outdated version.
+     *
+     * @param e the exception identifying the conflicting entity
+     * @return a {@link ResponseEntity} with an error message and HTTP 409 status
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<GenericResponse<Void>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        log.warn("Caught ObjectOptimisticLockingFailureException: {}", e.getMessage());
+        return GenericResponse.error("The resource was modified concurrently, reload it and retry.", HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles clients that exceeded a rate limit, such as the one on login attempts.
+     *
+     * @param e the exception carrying the time until the next attempt is allowed
+     * @return a {@link ResponseEntity} with an error message, a {@code Retry-After} header and HTTP 429 status
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<GenericResponse<Void>> handleRateLimitExceeded(RateLimitExceededException e) {
+        log.debug("Caught RateLimitExceededException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new GenericResponse<>(false, e.getMessage(), null));
+    }
+
+    /**
+     * Handles work rejected because a bounded executor, such as the password hashing pool, is saturated.
+     *
+     * @param e the exception thrown by the executor
+     * @return a {@link ResponseEntity} with an error message, a {@code Retry-After} header and HTTP 503 status
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<GenericResponse<Void>> handleRejectedExecution(RejectedExecutionException e) {
+        log.warn("Caught RejectedExecutionException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new GenericResponse<>(false, e.getMessage(), null));
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<GenericResponse<Void>> handleEntityNotFoundException(EntityNotFoundException e) {
         log.error("Caught EntityNotFoundException: {}", e.getMessage(), e);
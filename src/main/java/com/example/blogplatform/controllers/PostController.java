@@ -1,26 +1,54 @@
 package com.example.blogplatform.controllers;
 
+import com.example.blogplatform.domain.ContentKind;
 import com.example.blogplatform.domain.dtos.CreatePostRequest;
+import com.example.blogplatform.domain.dtos.CursorPage;
+import com.example.blogplatform.domain.dtos.PatchPostRequest;
 import com.example.blogplatform.domain.dtos.PostDto;
+import com.example.blogplatform.domain.dtos.PostSummaryDto;
+import com.example.blogplatform.domain.dtos.PostImportReport;
+import com.example.blogplatform.services.PostImportService;
 import com.example.blogplatform.services.PostService;
 import com.example.blogplatform.utils.GenericResponse;
 import com.example.blogplatform.utils.ResponseMessage;
+import com.example.blogplatform.web.ConditionalRequests;
+import com.example.blogplatform.web.ContentVersions;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping(path = "/api/v1/posts")
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final PostService postService;
+    private final PostImportService postImportService;
+    private final ContentVersions contentVersions;
 
     @GetMapping(path = "/{postId}")
-    public ResponseEntity<GenericResponse<PostDto>> getPost(@PathVariable UUID postId) {
+    public ResponseEntity<GenericResponse<PostDto>> getPost(@PathVariable UUID postId, WebRequest request) {
+        Optional<LocalDateTime> updatedAt = ConditionalRequests.postUpdatedAt(request, postId, postService::getPostUpdatedAt);
+        if (updatedAt.isPresent() && ConditionalRequests.checkNotModified(request,
+                ConditionalRequests.postEtag(postId, updatedAt.get()),
+                ConditionalRequests.toEpochMilli(updatedAt.get()))) {
+            return null;
+        }
         return GenericResponse.success(
                 ResponseMessage.POST_FOUND.message,
                 ResponseMessage.POST_FOUND.status,
@@ -29,14 +57,20 @@ public class PostController {
     }
 
     @GetMapping
-    public ResponseEntity<GenericResponse<List<PostDto>>> getAllPublishedPostsWithCriteria(
+    public ResponseEntity<GenericResponse<CursorPage<PostSummaryDto>>> getAllPublishedPostsWithCriteria(
             @RequestParam(required = false) UUID categoryId,
             @RequestParam(required = false) UUID userId,
-            @RequestParam(required = false) UUID tagId
+            @RequestParam(required = false) UUID tagId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
     ) {
-        List<PostDto> posts = postService.getAllPostsWithCriteria(categoryId, userId, tagId);
+        if (contentVersions.checkNotModified(request, ContentKind.POSTS, ContentKind.CATEGORIES, ContentKind.TAGS)) {
+            return null;
+        }
+        CursorPage<PostSummaryDto> posts = postService.getAllPostsWithCriteria(categoryId, userId, tagId, cursor, size);
 
-        if (!posts.isEmpty()) {
+        if (!posts.getItems().isEmpty()) {
             return GenericResponse.success(
                     ResponseMessage.POSTS_FOUND.message,
                     ResponseMessage.POSTS_FOUND.status,
@@ -51,9 +85,12 @@ public class PostController {
         );
     }
 
-    @GetMapping(path = "/drafts")
-    public ResponseEntity<GenericResponse<List<PostDto>>> getUserDrafts(@RequestAttribute(name = "userId") UUID userId) {
-        List<PostDto> posts = postService.getUserDrafts(userId);
+    @GetMapping(path = "/search")
+    public ResponseEntity<GenericResponse<List<PostSummaryDto>>> searchPosts(
+            @RequestParam(name = "q") String query,
+            @RequestParam(required = false) Integer limit
+    ) {
+        List<PostSummaryDto> posts = postService.searchPosts(query, limit);
         if (!posts.isEmpty()) {
             return GenericResponse.success(
                     ResponseMessage.POSTS_FOUND.message,
@@ -68,6 +105,54 @@ public class PostController {
         );
     }
 
+    @GetMapping(path = "/export")
+    public ResponseEntity<StreamingResponseBody> exportPublishedPosts(
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) UUID tagId,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 64 * 1024, true)) {
+                    postService.exportPublishedPosts(categoryId, userId, tagId, gzipOutputStream);
+                }
+            } else {
+                postService.exportPublishedPosts(categoryId, userId, tagId, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping(path = "/drafts")
+    public ResponseEntity<GenericResponse<CursorPage<PostSummaryDto>>> getUserDrafts(
+            @RequestAttribute(name = "userId") UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<PostSummaryDto> posts = postService.getUserDrafts(userId, cursor, size);
+        if (!posts.getItems().isEmpty()) {
+            return GenericResponse.success(
+                    ResponseMessage.POSTS_FOUND.message,
+                    ResponseMessage.POSTS_FOUND.status,
+                    posts
+            );
+        }
+        return GenericResponse.success(
+                ResponseMessage.NO_POSTS_FOUND.message,
+                ResponseMessage.NO_POSTS_FOUND.status,
+                posts
+        );
+    }
+
     @PostMapping
     public ResponseEntity<GenericResponse<PostDto>> createPost(
             @RequestBody CreatePostRequest createPostRequest,
@@ -80,6 +165,18 @@ public class PostController {
         );
     }
 
+    @PostMapping(path = "/import")
+    public ResponseEntity<GenericResponse<PostImportReport>> importPosts(
+            InputStream body,
+            @RequestAttribute(name = "userId") UUID userId
+    ) throws IOException {
+        return GenericResponse.success(
+                ResponseMessage.POSTS_IMPORTED.message,
+                ResponseMessage.POSTS_IMPORTED.status,
+                postImportService.importPosts(body, userId)
+        );
+    }
+
     @PutMapping(path = "/{postId}")
     public ResponseEntity<GenericResponse<PostDto>> updatePost(
             @PathVariable UUID postId,
@@ -93,6 +190,19 @@ public class PostController {
         );
     }
 
+    @PatchMapping(path = "/{postId}")
+    public ResponseEntity<GenericResponse<PostDto>> patchPost(
+            @PathVariable UUID postId,
+            @Valid @RequestBody PatchPostRequest patchPostRequest,
+            @RequestAttribute(name = "userId") UUID userId
+    ) {
+        return GenericResponse.success(
+                ResponseMessage.POST_UPDATED.message,
+                ResponseMessage.POST_UPDATED.status,
+                postService.patchPost(postId, patchPostRequest, userId)
+        );
+    }
+
     @DeleteMapping(path = "/{postId}")
     public ResponseEntity<GenericResponse<PostDto>> deletePost(
             @PathVariable UUID postId,
@@ -1,14 +1,17 @@
 package com.example.blogplatform.controllers;
 
+import com.example.blogplatform.domain.ContentKind;
 import com.example.blogplatform.domain.dtos.CreateTagRequest;
 import com.example.blogplatform.domain.dtos.TagDto;
 import com.example.blogplatform.services.TagService;
 import com.example.blogplatform.utils.GenericResponse;
 import com.example.blogplatform.utils.ResponseMessage;
+import com.example.blogplatform.web.ContentVersions;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,9 +22,13 @@ import java.util.UUID;
 public class TagController {
 
     private final TagService tagService;
+    private final ContentVersions contentVersions;
 
     @GetMapping
-    public ResponseEntity<GenericResponse<List<TagDto>>> getAllTags() {
+    public ResponseEntity<GenericResponse<List<TagDto>>> getAllTags(WebRequest request) {
+        if (contentVersions.checkNotModified(request, ContentKind.TAGS, ContentKind.POSTS)) {
+            return null;
+        }
         List<TagDto> tags = tagService.getAllTags();
         if (!tags.isEmpty()) {
             return GenericResponse.success(ResponseMessage.TAGS_FOUND.message, ResponseMessage.TAGS_FOUND.status, tags);
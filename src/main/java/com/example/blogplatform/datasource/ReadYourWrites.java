@@ -0,0 +1,45 @@
+package com.example.blogplatform.datasource;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Sends the reads of a request to the primary database once it has started writing, so a client
+ * always sees its own changes, however far the replicas lag behind.
+ * <p>
+ * As a {@link TransactionExecutionListener}, every read-write transaction pins the current request to
+ * the primary; {@link ReplicaDataSource} then serves the request's later read-only transactions from
+ * the primary as well. The pin is a request attribute and ends with the request. Work outside of a
+ * request (e.g. background jobs) is never pinned.
+ */
+public class ReadYourWrites implements TransactionExecutionListener {
+
+    private static final String PINNED_ATTRIBUTE = ReadYourWrites.class.getName() + ".PINNED";
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null && !transaction.isReadOnly()) {
+            pinToPrimary();
+        }
+    }
+
+    /**
+     * Makes the rest of the current request read from the primary database. Does nothing outside of a request.
+     */
+    public static void pinToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Returns whether the current request has to read from the primary database.
+     */
+    public static boolean isPinnedToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
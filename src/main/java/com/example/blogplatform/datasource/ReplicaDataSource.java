@@ -0,0 +1,182 @@
+package com.example.blogplatform.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Serves the connections of read-only transactions from a set of read replicas.
+ * <p>
+ * Each connection comes from a replica chosen by the configured {@link Selection}. A replica that cannot be
+ * connected to is ejected for {@code ejectFor} and the next one is tried; once the period has passed, it is
+ * tried again. A replica whose pool merely timed out with all its connections in use is healthy but busy: the
+ * next one is tried without ejecting it, and if every available replica is busy the timeout is thrown rather
+ * than moving the reads onto the primary. Connections come from the primary instead when no replica is
+ * available, or when the current request has already written and has to see its own changes (see
+ * {@link ReadYourWrites}).
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /**
+     * How a replica is chosen for a connection.
+     */
+    public enum Selection {
+        /**
+         * Each replica in turn.
+         */
+        ROUND_ROBIN,
+        /**
+         * The replica with the fewest connections in use, for replicas of different capacity or
+         * queries of very different cost. Requires Hikari pools.
+         */
+        LEAST_CONNECTIONS
+    }
+
+    private final Replica[] replicas;
+    private final DataSource primary;
+    private final Selection selection;
+    private final long ejectForNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSource(List<? extends DataSource> replicas, DataSource primary, Selection selection,
+                             Duration ejectFor) {
+        this(replicas, primary, selection, ejectFor, System::nanoTime);
+    }
+
+    ReplicaDataSource(List<? extends DataSource> replicas, DataSource primary, Selection selection,
+                      Duration ejectFor, LongSupplier nanoTime) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(i -> new Replica(i + 1, replicas.get(i)))
+                .toArray(Replica[]::new);
+        this.primary = primary;
+        this.selection = selection;
+        this.ejectForNanos = ejectFor.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadYourWrites.isPinnedToPrimary()) {
+            return primary.getConnection();
+        }
+        long now = nanoTime.getAsLong();
+        int first = selection == Selection.LEAST_CONNECTIONS
+                ? leastBusy(now)
+                : Math.floorMod(next.getAndIncrement(), replicas.length);
+        SQLException busy = null;
+        for (int i = 0; i < replicas.length; i++) {
+            Replica replica = replicas[(first + i) % replicas.length];
+            if (replica.isEjected(now)) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException | RuntimeException e) {
+                if (isPoolExhausted(e)) {
+                    busy = (SQLException) e;
+                    continue;
+                }
+                replica.eject(now + ejectForNanos);
+                log.warn("Ejected read replica {} for {} ms: {}", replica.number, ejectForNanos / 1_000_000, e.getMessage());
+            }
+        }
+        if (busy != null) {
+            throw busy;
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    /**
+     * Returns the replicas, in the order they were configured.
+     */
+    public List<DataSource> getReplicas() {
+        return Arrays.stream(replicas).map(replica -> replica.dataSource).toList();
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close read replica pool", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hikari times out with a {@link SQLTransientConnectionException} both when all connections are in use and
+     * when it cannot connect; only in the latter case is the last connection failure attached as the cause.
+     */
+    private static boolean isPoolExhausted(Exception e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null;
+    }
+
+    private int leastBusy(long now) {
+        int best = 0;
+        int bestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.length; i++) {
+            int active = replicas[i].isEjected(now) ? Integer.MAX_VALUE : replicas[i].activeConnections();
+            if (active < bestActive) {
+                best = i;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+
+    private static final class Replica {
+
+        private final int number;
+        private final DataSource dataSource;
+        private final AtomicLong ejectedUntil = new AtomicLong(Long.MIN_VALUE);
+
+        Replica(int number, DataSource dataSource) {
+            this.number = number;
+            this.dataSource = dataSource;
+        }
+
+        boolean isEjected(long now) {
+            long until = ejectedUntil.get();
+            return until != Long.MIN_VALUE && now - until < 0;
+        }
+
+        void eject(long until) {
+            ejectedUntil.set(until);
+        }
+
+        int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikariDataSource) {
+                HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+                return pool != null ? pool.getActiveConnections() : 0;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.blogplatform.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements each HTTP request issues and reports requests exceeding a budget.
+ * <p>
+ * The count is stored in the {@value #STATEMENT_COUNT_ATTRIBUTE} request attribute. When it exceeds
+ * {@code blog.diagnostics.statements.budget}, the request is logged together with the fingerprints
+ * of repeated statements, which usually point at an N+1 query. With
+ * {@code blog.diagnostics.statements.fail-on-exceed=true}, intended for tests, the request fails
+ * with an {@link IllegalStateException} instead.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@Slf4j
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = StatementBudgetFilter.class.getName() + ".count";
+
+    private static final int REPORTED_FINGERPRINTS = 5;
+
+    private final StatementCounter statementCounter;
+    private final int budget;
+    private final boolean failOnExceed;
+
+    public StatementBudgetFilter(
+            StatementCounter statementCounter,
+            @Value("${blog.diagnostics.statements.budget:20}") int budget,
+            @Value("${blog.diagnostics.statements.fail-on-exceed:false}") boolean failOnExceed
+    ) {
+        this.statementCounter = statementCounter;
+        this.budget = budget;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (StatementCounter.Scope scope = statementCounter.open()) {
+            filterChain.doFilter(request, response);
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, scope.count());
+            if (scope.count() > budget) {
+                reportExceeded(request, scope);
+            }
+        }
+    }
+
+    private void reportExceeded(HttpServletRequest request, StatementCounter.Scope scope) {
+        StringBuilder report = new StringBuilder();
+        report.append(request.getMethod()).append(' ').append(request.getRequestURI())
+                .append(" issued ").append(scope.count()).append(" SQL statements (budget ").append(budget).append(')');
+        List<Map.Entry<String, Integer>> repeated = scope.repeatedFingerprints();
+        for (int i = 0; i < Math.min(REPORTED_FINGERPRINTS, repeated.size()); i++) {
+            report.append("\n\t").append(repeated.get(i).getValue()).append("x ").append(repeated.get(i).getKey());
+        }
+        if (failOnExceed) {
+            throw new IllegalStateException(report.toString());
+        }
+        log.warn(report.toString());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.blogplatform.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate {@link StatementInspector} counting the SQL statements issued by the current thread
+ * while a {@link Scope} is open.
+ * <p>
+ * Statements are only counted, never modified. Outside a scope the inspector does nothing, so
+ * background jobs are not affected.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("in\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+
+    /**
+     * Starts counting the statements of the current thread.
+     *
+     * @return the new scope, which must be closed on the same thread
+     */
+    public Scope open() {
+        Scope scope = new Scope();
+        currentScope.set(scope);
+        return scope;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = currentScope.get();
+        if (scope != null) {
+            scope.count++;
+            scope.statements.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    /**
+     * Normalizes a statement so that executions differing only in literals, {@code IN} list length
+     * or formatting share a fingerprint.
+     *
+     * @param sql the statement
+     * @return the fingerprint
+     */
+    static String fingerprint(String sql) {
+        String normalized = sql.toLowerCase(Locale.ROOT);
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return IN_LIST.matcher(normalized).replaceAll("in (?)");
+    }
+
+    /**
+     * The statements counted between {@link #open()} and {@link #close()}.
+     */
+    public final class Scope implements AutoCloseable {
+
+        private int count;
+        private final Map<String, Integer> statements = new HashMap<>();
+
+        private Scope() {
+        }
+
+        /**
+         * @return the number of statements issued so far
+         */
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Returns the fingerprints of statements issued more than once, most frequent first.
+         *
+         * @return the repeated fingerprints with their execution counts
+         */
+        public List<Map.Entry<String, Integer>> repeatedFingerprints() {
+            Map<String, Integer> fingerprints = new HashMap<>();
+            statements.forEach((sql, executions) -> fingerprints.merge(fingerprint(sql), executions, Integer::sum));
+            return fingerprints.entrySet()
+                    .stream()
+                    .filter(entry -> entry.getValue() > 1)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                    .toList();
+        }
+
+        @Override
+        public void close() {
+            currentScope.remove();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.blogplatform.domain;
+
+/**
+ * The kinds of content responses can depend on, each with its own shared version.
+ */
+public enum ContentKind {
+    POSTS,
+    CATEGORIES,
+    TAGS
+}
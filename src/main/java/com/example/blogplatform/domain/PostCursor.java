@@ -0,0 +1,80 @@
+package com.example.blogplatform.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position inside a post listing ordered by {@code (createdAt, id)} descending.
+ *
+ * <p>Cursors are handed to clients as opaque, URL-safe tokens. A cursor either points
+ * {@link Direction#AFTER} a row (the next, older page) or {@link Direction#BEFORE} it
+ * (the previous, newer page).
+ *
+ * @param createdAt the creation timestamp of the boundary row
+ * @param id        the id of the boundary row, used as a tie-breaker
+ * @param direction which side of the boundary row the page lies on
+ */
+public record PostCursor(LocalDateTime createdAt, UUID id, Direction direction) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Normalizes the timestamp to the microsecond precision of the {@code created_at} column, so that
+     * cursors built from freshly persisted entities compare equal to the stored value.
+     */
+    public PostCursor {
+        createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public enum Direction {
+        AFTER,
+        BEFORE
+    }
+
+    /**
+     * Encodes this cursor into an opaque token.
+     *
+     * @return a URL-safe token representing this cursor
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id + SEPARATOR + direction.name().charAt(0);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor token; may be {@code null}
+     * @return the decoded cursor, or {@code null} if {@code token} is {@code null} or blank
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PostCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int last = raw.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            Direction direction = switch (raw.substring(last + 1)) {
+                case "A" -> Direction.AFTER;
+                case "B" -> Direction.BEFORE;
+                default -> throw new IllegalArgumentException("Invalid cursor: " + token);
+            };
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, first)),
+                    UUID.fromString(raw.substring(first + 1, last)),
+                    direction
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -36,4 +36,10 @@ public class CreatePostRequest {
 
     @NotNull(message = "Status is required")
     private PostStatus status;
+
+    /**
+     * The version of the post the update is based on, if known. A mismatch means another update was made
+     * in the meantime, and the request is rejected. Ignored on creation.
+     */
+    private Long version;
 }
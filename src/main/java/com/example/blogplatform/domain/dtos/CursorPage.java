@@ -0,0 +1,27 @@
+package com.example.blogplatform.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A single page of a keyset-paginated listing.
+ *
+ * <p>{@code next} and {@code prev} are opaque cursor tokens that can be passed back as the
+ * {@code cursor} request parameter; they are {@code null} when there is no page in that direction.
+ *
+ * @param <T> the type of the listed items
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorPage<T> {
+    private List<T> items;
+    private String next;
+    private String prev;
+    private int size;
+}
@@ -0,0 +1,41 @@
+package com.example.blogplatform.domain.dtos;
+
+import com.example.blogplatform.domain.PostStatus;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Partial update of a post. Fields that are {@code null} (or absent from the request body) keep their
+ * current value; since every post field is required, none of them can be cleared.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PatchPostRequest {
+
+    @Size(min = 2, max = 200, message = "Post's title length must be between {min} and {max} characters")
+    private String title;
+
+    @Size(min = 10, max = 50000, message = "Post's content length must be between {min} and {max} characters")
+    private String content;
+
+    private UUID categoryId;
+
+    @Size(max = 10, message = "Maximum {max} tags allowed")
+    private Set<UUID> tagIds;
+
+    private PostStatus status;
+
+    /**
+     * The version of the post the patch is based on, if known. A mismatch means another update was made
+     * in the meantime, and the patch is rejected.
+     */
+    private Long version;
+}
@@ -25,4 +25,5 @@ public class PostDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private PostStatus postStatus;
+    private Long version;
 }
@@ -0,0 +1,49 @@
+package com.example.blogplatform.domain.dtos;
+
+import com.example.blogplatform.domain.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One line of the NDJSON post export.
+ *
+ * <p>Built from a constructor projection while scrolling over the result set, so exported rows are
+ * never attached to the persistence context.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostExportDto {
+    private UUID id;
+    private String title;
+    private String content;
+    private PostStatus status;
+    private Integer readingTime;
+    private UUID authorId;
+    private String authorName;
+    private UUID categoryId;
+    private String categoryName;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Builder.Default
+    private Set<String> tagNames = new LinkedHashSet<>();
+
+    /**
+     * Projection constructor used by the export query; tag names are attached per batch afterwards.
+     */
+    public PostExportDto(UUID id, String title, String content, PostStatus status, Integer readingTime,
+                         UUID authorId, String authorName, UUID categoryId, String categoryName,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, content, status, readingTime, authorId, authorName, categoryId, categoryName,
+                createdAt, updatedAt, new LinkedHashSet<>());
+    }
+}
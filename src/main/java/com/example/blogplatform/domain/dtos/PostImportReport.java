@@ -0,0 +1,25 @@
+package com.example.blogplatform.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary of a bulk post import, with one {@link PostImportResult} per received item.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostImportReport {
+    private int total;
+    private int created;
+    private int failed;
+
+    @Builder.Default
+    private List<PostImportResult> results = new ArrayList<>();
+}
@@ -0,0 +1,31 @@
+package com.example.blogplatform.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of importing a single item of a bulk post import.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostImportResult {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    /**
+     * Zero-based position of the item in the imported stream.
+     */
+    private int index;
+    private Status status;
+    private UUID postId;
+    private String error;
+}
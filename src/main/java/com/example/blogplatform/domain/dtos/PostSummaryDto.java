@@ -0,0 +1,44 @@
+package com.example.blogplatform.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Lightweight representation of a post used by listing endpoints.
+ *
+ * <p>Unlike {@link PostDto} it carries only a short excerpt instead of the full content and
+ * flattens the author, category and tags down to their names. Instances are built directly
+ * from a constructor projection, so no {@code Post} entities are hydrated for listings.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostSummaryDto {
+    private UUID id;
+    private String title;
+    private String excerpt;
+    private Integer readingTime;
+    private String authorName;
+    private String categoryName;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Builder.Default
+    private Set<String> tagNames = new LinkedHashSet<>();
+
+    /**
+     * Projection constructor used by the listing queries; tag names are attached afterwards.
+     */
+    public PostSummaryDto(UUID id, String title, String excerpt, Integer readingTime, String authorName,
+                          String categoryName, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, excerpt, readingTime, authorName, categoryName, createdAt, updatedAt, new LinkedHashSet<>());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.blogplatform.domain.entities;
 
+import com.example.blogplatform.domain.ids.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -37,10 +38,10 @@ public class Category {
     /**
      * The unique identifier for this category.
      *
-     * <p>Generated using {@code UUID} strategy.
+     * <p>Generated as a time-ordered UUID, see {@link TimeOrderedUuid}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     /**
@@ -0,0 +1,33 @@
+package com.example.blogplatform.domain.entities;
+
+import com.example.blogplatform.domain.ContentKind;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * The version of one kind of content, shared by all application instances. Incremented in the
+ * transaction of every write to that content.
+ */
+@Entity
+@Table(name = "content_versions")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ContentVersion {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ContentKind kind;
+
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * When the content last changed, in epoch milliseconds, always on a whole second.
+     */
+    @Column(nullable = false)
+    private long lastModified;
+}
@@ -1,8 +1,13 @@
 package com.example.blogplatform.domain.entities;
 
+import com.example.blogplatform.content.ContentAnalysis;
+import com.example.blogplatform.content.ContentAnalyzer;
 import com.example.blogplatform.domain.PostStatus;
+import com.example.blogplatform.domain.ids.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -12,6 +17,15 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "posts")
+@DynamicUpdate
+@NamedEntityGraph(
+        name = Post.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("author"),
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode("tags")
+        }
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -19,8 +33,13 @@ import java.util.UUID;
 @Builder
 public class Post {
 
+    /**
+     * Fetch plan loading everything {@code PostMapper#toDto} touches in the same statement.
+     */
+    public static final String DETAIL_GRAPH = "Post.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false)
@@ -52,12 +71,57 @@ public class Post {
     @Column(nullable = false)
     private Integer readingTime;
 
+    private Integer wordCount;
+
+    @Column(length = ContentAnalyzer.EXCERPT_LENGTH)
+    private String excerpt;
+
+    @Column(length = 16)
+    private String contentHash;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic lock, so that an update based on a stale copy fails instead of silently overwriting another one.
+     */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
+    /**
+     * Replaces the content and the values derived from it.
+     *
+     * @param content  the new content
+     * @param analysis the result of {@link ContentAnalyzer#analyze(String)} for {@code content}
+     */
+    public void applyContent(String content, ContentAnalysis analysis) {
+        this.content = content;
+        this.readingTime = analysis.readingTime();
+        this.wordCount = analysis.wordCount();
+        this.excerpt = analysis.excerpt();
+        this.contentHash = analysis.contentHash();
+    }
+
+    /**
+     * Replaces the content and the values derived from it, unless {@code content} equals the current content,
+     * in which case it is neither analysed nor written.
+     *
+     * @param content the new content
+     * @return {@code true} if the content changed
+     */
+    public boolean updateContent(String content) {
+        if (content.equals(this.content)) {
+            return false;
+        }
+        applyContent(content, ContentAnalyzer.analyze(content));
+        return true;
+    }
+
     @PrePersist
     protected  void onCreate() {
         LocalDateTime now = LocalDateTime.now();
@@ -1,5 +1,6 @@
 package com.example.blogplatform.domain.entities;
 
+import com.example.blogplatform.domain.ids.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,7 +19,7 @@ import java.util.UUID;
 public class Tag {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false,  unique = true)
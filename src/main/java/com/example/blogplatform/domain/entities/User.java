@@ -1,5 +1,6 @@
 package com.example.blogplatform.domain.entities;
 
+import com.example.blogplatform.domain.ids.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -19,7 +20,7 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(unique = true, nullable = false)
@@ -0,0 +1,17 @@
+package com.example.blogplatform.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Published by the category service whenever a category is created or deleted.
+ *
+ * @param categoryId the id of the affected category
+ * @param type       what happened to the category
+ */
+public record CategoryChangedEvent(UUID categoryId, Type type) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.blogplatform.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Published by the post service whenever a post is created, updated or deleted.
+ * <p>
+ * Listeners that maintain derived state (such as the search index) should consume it after the
+ * publishing transaction commits, so they never observe uncommitted data.
+ *
+ * @param postId the id of the affected post
+ * @param type   what happened to the post
+ */
+public record PostChangedEvent(UUID postId, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
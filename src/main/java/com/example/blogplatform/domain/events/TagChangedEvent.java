@@ -0,0 +1,17 @@
+package com.example.blogplatform.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Published by the tag service whenever a tag is created or deleted.
+ *
+ * @param tagId the id of the affected tag
+ * @param type  what happened to the tag
+ */
+public record TagChangedEvent(UUID tagId, Type type) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
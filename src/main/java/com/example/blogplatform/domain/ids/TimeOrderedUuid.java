@@ -0,0 +1,20 @@
+package com.example.blogplatform.domain.ids;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link java.util.UUID} identifier as generated by {@link TimeOrderedUuidGenerator}.
+ * <p>
+ * Replaces {@code @GeneratedValue(strategy = GenerationType.UUID)}, which produces random
+ * version 4 ids.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
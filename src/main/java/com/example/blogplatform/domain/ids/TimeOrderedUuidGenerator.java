@@ -0,0 +1,47 @@
+package com.example.blogplatform.domain.ids;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * Hibernate identifier generator backing {@link TimeOrderedUuid}.
+ * <p>
+ * Generates {@link UuidV7} ids by default. Setting the Hibernate property {@value #VERSION_SETTING}
+ * (e.g. {@code spring.jpa.properties.blog.ids.uuid-version=4}) to {@code 4} switches back to random
+ * ids without touching the entities.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    public static final String VERSION_SETTING = "blog.ids.uuid-version";
+
+    private final boolean timeOrdered;
+
+    public TimeOrderedUuidGenerator(TimeOrderedUuid annotation, Member member, CustomIdGeneratorCreationContext context) {
+        Object version = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(VERSION_SETTING);
+        if (version != null && !"4".equals(version.toString().trim()) && !"7".equals(version.toString().trim())) {
+            throw new IllegalArgumentException("Unsupported " + VERSION_SETTING + ": " + version);
+        }
+        this.timeOrdered = version == null || "7".equals(version.toString().trim());
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return timeOrdered ? UuidV7.next() : UUID.randomUUID();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
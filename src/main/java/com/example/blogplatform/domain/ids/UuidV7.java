@@ -0,0 +1,56 @@
+package com.example.blogplatform.domain.ids;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free generator of time-ordered version 7 UUIDs (RFC 9562).
+ * <p>
+ * The 48 most significant bits hold the Unix timestamp in milliseconds and the 12-bit {@code rand_a}
+ * field is used as a sub-millisecond counter, so ids generated by this JVM are strictly increasing.
+ * The remaining 62 bits are random. New rows therefore land at the right edge of primary-key and
+ * join-table indexes instead of at random pages, while staying format-compatible with the random
+ * version 4 ids already stored.
+ * <p>
+ * If more than 4096 ids are requested within one millisecond, or the clock moves backwards, the
+ * embedded timestamp runs slightly ahead of the wall clock to preserve monotonicity.
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_SEED_BOUND = 1L << (COUNTER_BITS - 1);
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    /**
+     * The last issued {@code timestamp << 12 | counter}.
+     */
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    /**
+     * Generates the next id.
+     *
+     * @return a version 7 UUID greater than every id previously returned by this method
+     */
+    public static UUID next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long state;
+        long next;
+        do {
+            state = STATE.get();
+            long fresh = (System.currentTimeMillis() << COUNTER_BITS) | random.nextLong(COUNTER_SEED_BOUND);
+            next = fresh > state ? fresh : state + 1;
+        } while (!STATE.compareAndSet(state, next));
+
+        long timestamp = next >>> COUNTER_BITS;
+        long counter = next & ((1L << COUNTER_BITS) - 1);
+        long mostSignificantBits = (timestamp << 16) | VERSION | counter;
+        long leastSignificantBits = (random.nextLong() & VARIANT_MASK) | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
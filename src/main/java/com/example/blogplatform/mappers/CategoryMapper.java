@@ -1,17 +1,12 @@
 package com.example.blogplatform.mappers;
 
-import com.example.blogplatform.domain.PostStatus;
 import com.example.blogplatform.domain.dtos.CategoryDto;
 import com.example.blogplatform.domain.dtos.CreateCategoryRequest;
 import com.example.blogplatform.domain.entities.Category;
-import com.example.blogplatform.domain.entities.Post;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.Named;
 import org.mapstruct.ReportingPolicy;
 
-import java.util.List;
-
 /**
  * Mapper interface for converting between {@link Category} entities and their corresponding
  * DTO/request representations.
@@ -24,8 +19,10 @@ import java.util.List;
  * This mapper:
  * <ul>
  *     <li>Converts {@link CreateCategoryRequest} to {@link Category}</li>
- *     <li>Converts {@link Category} to {@link CategoryDto}, including a custom calculation of post count</li>
+ *     <li>Converts {@link Category} to {@link CategoryDto} without touching its posts</li>
  * </ul>
+ * Published post counts are computed by
+ * {@link com.example.blogplatform.repositories.CategoryRepository#findAllWithPostCount()} instead.
  * </p>
  */
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
@@ -40,28 +37,13 @@ public interface CategoryMapper {
     Category toEntity(CreateCategoryRequest createCategoryRequest);
 
     /**
-     * Maps a {@link Category} entity to a {@link CategoryDto}, including a custom mapping for post count.
-     * Only posts with {@link PostStatus#PUBLISHED} are counted.
+     * Maps a {@link Category} entity to a {@link CategoryDto}.
+     * <p>
+     * The post count is left at {@code 0}, so the lazy {@code posts} collection is never initialized.
      *
      * @param category the entity to be mapped
      * @return the corresponding {@link CategoryDto}
      */
-    @Mapping(target = "postCount", source = "posts", qualifiedByName = "calculatePostCount")
+    @Mapping(target = "postCount", ignore = true)
     CategoryDto toDto(Category category);
-
-    /**
-     * Calculates the number of published posts in the given category.
-     *
-     * @param posts the list of posts associated with the category
-     * @return the number of posts with {@link PostStatus#PUBLISHED} status; returns {@code 0} if {@code posts} is {@code null}
-     */
-    @Named("calculatePostCount")
-    default long calculatePostCount(List<Post> posts) {
-        if (posts == null) {
-            return 0;
-        }
-        return posts.stream()
-                .filter(post -> PostStatus.PUBLISHED.equals(post.getStatus()))
-                .count();
-    }
 }
@@ -1,5 +1,6 @@
 package com.example.blogplatform.repositories;
 
+import com.example.blogplatform.domain.dtos.CategoryDto;
 import com.example.blogplatform.domain.entities.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,7 +18,7 @@ import java.util.UUID;
  * <p>
  * Includes custom methods for:
  * <ul>
- *     <li>Fetching all categories with their associated posts eagerly</li>
+ *     <li>Fetching all categories together with their published post counts</li>
  *     <li>Checking existence of a category by name (case-insensitive)</li>
  * </ul>
  * </p>
@@ -26,15 +27,21 @@ import java.util.UUID;
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
     /**
-     * Retrieves all categories with their associated posts using a left join fetch.
+     * Retrieves all categories together with the number of their published posts.
      * <p>
-     * This avoids the N+1 select problem when accessing posts of each category after retrieval.
+     * The count is computed by a grouped aggregate in the database, so no post rows are
+     * transferred and the result size is proportional to the number of categories.
      * </p>
      *
-     * @return a list of {@link Category} entities, each with its {@code posts} initialized
+     * @return a list of {@link CategoryDto}, one per category
      */
-    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.posts")
-    List<Category> findAllWithPostCount();
+    @Query("""
+            SELECT new com.example.blogplatform.domain.dtos.CategoryDto(c.id, c.name, COUNT(p))
+            FROM Category c
+            LEFT JOIN c.posts p ON p.status = com.example.blogplatform.domain.PostStatus.PUBLISHED
+            GROUP BY c.id, c.name
+            """)
+    List<CategoryDto> findAllWithPostCount();
 
     /**
      * Checks whether a category with the given name (case-insensitive) exists in the database.
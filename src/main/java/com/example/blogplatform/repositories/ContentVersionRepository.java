@@ -0,0 +1,31 @@
+package com.example.blogplatform.repositories;
+
+import com.example.blogplatform.domain.ContentKind;
+import com.example.blogplatform.domain.entities.ContentVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ContentVersionRepository extends JpaRepository<ContentVersion, ContentKind> {
+
+    /**
+     * Increments the version of a kind of content and moves its modification time to {@code lastModified},
+     * or one second past the previous one if that is later.
+     *
+     * @param kind         the kind of content that changed
+     * @param lastModified the new modification time in epoch milliseconds, on a whole second
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE ContentVersion v
+            SET v.version = v.version + 1,
+                v.lastModified = CASE WHEN v.lastModified + 1000 > :lastModified
+                    THEN v.lastModified + 1000 ELSE :lastModified END
+            WHERE v.kind = :kind
+            """)
+    void increment(ContentKind kind, long lastModified);
+}
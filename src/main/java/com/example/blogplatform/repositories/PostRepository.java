@@ -1,12 +1,134 @@
 package com.example.blogplatform.repositories;
 
+import com.example.blogplatform.domain.PostStatus;
 import com.example.blogplatform.domain.entities.Post;
+import com.example.blogplatform.search.SearchDocument;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Repository interface for managing {@link Post} entities.
+ * <p>
+ * Methods returning entities that are mapped to {@code PostDto} apply the {@link Post#DETAIL_GRAPH}
+ * fetch plan, so author, category and tags are loaded in the same statement instead of one lazy
+ * select per row.
+ * </p>
+ */
 @Repository
-public interface PostRepository extends JpaRepository<Post, UUID>, JpaSpecificationExecutor<Post> {
+public interface PostRepository extends JpaRepository<Post, UUID>, JpaSpecificationExecutor<Post>, PostRepositoryCustom {
+
+    /**
+     * Retrieves a post together with its author, category and tags.
+     *
+     * @param id the id of the post
+     * @return the post with its associations initialized, or an empty {@link Optional} if none exists
+     */
+    @EntityGraph(value = Post.DETAIL_GRAPH)
+    Optional<Post> findDetailedById(UUID id);
+
+    /**
+     * Retrieves all posts matching the specification together with their author, category and tags.
+     * <p>
+     * The fetch joins are independent of any join added by the specification itself (e.g. the tag
+     * filter), so filtering does not truncate the fetched collections and each post is returned once.
+     * </p>
+     *
+     * @param specification the filters to apply
+     * @return the matching posts with their associations initialized
+     */
+    @Override
+    @EntityGraph(value = Post.DETAIL_GRAPH)
+    List<Post> findAll(Specification<Post> specification);
+
+    /**
+     * Retrieves only the modification time of a post.
+     *
+     * @param id the id of the post
+     * @return the modification time, or an empty {@link Optional} if the post does not exist
+     */
+    @Query("SELECT p.updatedAt FROM Post p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
+    /**
+     * Checks whether any post belongs to the given category.
+     *
+     * @param categoryId the id of the category
+     * @return {@code true} if at least one post references the category
+     */
+    boolean existsByCategoryId(UUID categoryId);
+
+    /**
+     * Checks whether any post is tagged with the given tag.
+     *
+     * @param tagId the id of the tag
+     * @return {@code true} if at least one post references the tag
+     */
+    boolean existsByTagsId(UUID tagId);
+
+    /**
+     * Retrieves posts whose content has not been analyzed yet, i.e. rows written before the
+     * derived content columns existed.
+     *
+     * @param limit the maximum number of posts to return
+     * @return the next batch of posts without a content hash
+     */
+    List<Post> findByContentHashIsNull(Limit limit);
+
+    /**
+     * Stores the derived content columns of a post without touching {@code updatedAt}.
+     *
+     * @param id          the id of the post
+     * @param wordCount   the word count
+     * @param readingTime the reading time in minutes
+     * @param excerpt     the plain-text excerpt
+     * @param contentHash the content hash
+     */
+    @Modifying
+    @Query("""
+            UPDATE Post p
+            SET p.wordCount = :wordCount, p.readingTime = :readingTime, p.excerpt = :excerpt, p.contentHash = :contentHash
+            WHERE p.id = :id
+            """)
+    void updateContentAnalysis(UUID id, Integer wordCount, Integer readingTime, String excerpt, String contentHash);
+
+    /**
+     * Retrieves the searchable fields of posts with the given status, ordered by id.
+     *
+     * @param status the status of the posts to read
+     * @param after  the id after which to start reading, or {@code null} to start from the beginning
+     * @param limit  the maximum number of documents to return
+     * @return the next batch of search documents
+     */
+    @Query("""
+            SELECT new com.example.blogplatform.search.SearchDocument(p.id, p.title, p.content)
+            FROM Post p
+            WHERE p.status = :status AND (:after IS NULL OR p.id > :after)
+            ORDER BY p.id
+            """)
+    List<SearchDocument> findSearchDocuments(PostStatus status, UUID after, Limit limit);
+
+    /**
+     * Retrieves the searchable fields of a single post if it has the given status.
+     *
+     * @param id     the id of the post
+     * @param status the required status
+     * @return the search document, or an empty {@link Optional} if the post does not exist or has another status
+     */
+    @Query("""
+            SELECT new com.example.blogplatform.search.SearchDocument(p.id, p.title, p.content)
+            FROM Post p
+            WHERE p.id = :id AND p.status = :status
+            """)
+    Optional<SearchDocument> findSearchDocument(UUID id, PostStatus status);
 }
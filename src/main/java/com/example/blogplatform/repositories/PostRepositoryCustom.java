@@ -0,0 +1,40 @@
+package com.example.blogplatform.repositories;
+
+import com.example.blogplatform.domain.dtos.PostExportDto;
+import com.example.blogplatform.domain.dtos.PostSummaryDto;
+import com.example.blogplatform.domain.entities.Post;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Custom query fragment of {@link PostRepository} for projections that Spring Data cannot derive.
+ */
+public interface PostRepositoryCustom {
+
+    /**
+     * Retrieves post summaries matching the given specification without hydrating {@link Post} entities
+     * or reading the full {@code content} column.
+     *
+     * @param specification the filters to apply
+     * @param sort          the ordering of the results
+     * @param limit         the maximum number of rows to return
+     * @return the matching summaries, each with its tag names populated
+     */
+    List<PostSummaryDto> findSummaries(Specification<Post> specification, Sort sort, int limit);
+
+    /**
+     * Streams all posts matching the given specification through a forward-only, read-only cursor.
+     * <p>
+     * Rows are projected straight into {@link PostExportDto}s and handed to {@code batchConsumer}
+     * in batches, each with its tag names resolved by one query, so memory use does not depend on
+     * the total number of rows. Must be called inside a transaction.
+     *
+     * @param specification the filters to apply
+     * @param batchSize     the JDBC fetch size and the number of rows per batch
+     * @param batchConsumer receives each batch of rows in {@code (createdAt, id)} order
+     */
+    void streamExport(Specification<Post> specification, int batchSize, Consumer<List<PostExportDto>> batchConsumer);
+}
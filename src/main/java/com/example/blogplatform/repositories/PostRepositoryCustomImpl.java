@@ -0,0 +1,146 @@
+package com.example.blogplatform.repositories;
+
+import com.example.blogplatform.domain.dtos.PostExportDto;
+import com.example.blogplatform.domain.dtos.PostSummaryDto;
+import com.example.blogplatform.domain.entities.Category;
+import com.example.blogplatform.domain.entities.Post;
+import com.example.blogplatform.domain.entities.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Criteria-based implementation of {@link PostRepositoryCustom}.
+ */
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PostSummaryDto> findSummaries(Specification<Post> specification, Sort sort, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PostSummaryDto> query = criteriaBuilder.createQuery(PostSummaryDto.class);
+        Root<Post> root = query.from(Post.class);
+        Join<Post, User> author = root.join("author");
+        Join<Post, Category> category = root.join("category");
+
+        query.select(criteriaBuilder.construct(
+                PostSummaryDto.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("excerpt"),
+                root.get("readingTime"),
+                author.get("name"),
+                category.get("name"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        ));
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        List<PostSummaryDto> summaries = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+        Map<UUID, Set<String>> tagNames = findTagNames(summaries.stream().map(PostSummaryDto::getId).toList());
+        summaries.forEach(summary -> summary.getTagNames().addAll(tagNames.getOrDefault(summary.getId(), Set.of())));
+        return summaries;
+    }
+
+    @Override
+    public void streamExport(Specification<Post> specification, int batchSize, Consumer<List<PostExportDto>> batchConsumer) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PostExportDto> query = criteriaBuilder.createQuery(PostExportDto.class);
+        Root<Post> root = query.from(Post.class);
+        Join<Post, User> author = root.join("author");
+        Join<Post, Category> category = root.join("category");
+
+        query.select(criteriaBuilder.construct(
+                PostExportDto.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("content"),
+                root.get("status"),
+                root.get("readingTime"),
+                author.get("id"),
+                author.get("name"),
+                category.get("id"),
+                category.get("name"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        ));
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(criteriaBuilder.asc(root.get("createdAt")), criteriaBuilder.asc(root.get("id")));
+
+        @SuppressWarnings("unchecked")
+        Query<PostExportDto> hibernateQuery = entityManager.createQuery(query).unwrap(Query.class);
+        try (ScrollableResults<PostExportDto> results = hibernateQuery
+                .setFetchSize(batchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            List<PostExportDto> batch = new ArrayList<>(batchSize);
+            while (results.next()) {
+                batch.add(results.get());
+                if (batch.size() == batchSize) {
+                    flushExportBatch(batch, batchConsumer);
+                }
+            }
+            if (!batch.isEmpty()) {
+                flushExportBatch(batch, batchConsumer);
+            }
+        }
+    }
+
+    private void flushExportBatch(List<PostExportDto> batch, Consumer<List<PostExportDto>> batchConsumer) {
+        Map<UUID, Set<String>> tagNames = findTagNames(batch.stream().map(PostExportDto::getId).toList());
+        batch.forEach(row -> row.getTagNames().addAll(tagNames.getOrDefault(row.getId(), Set.of())));
+        batchConsumer.accept(batch);
+        batch.clear();
+        entityManager.clear();
+    }
+
+    /**
+     * Loads the tag names of all given posts with a single query.
+     */
+    private Map<UUID, Set<String>> findTagNames(Collection<UUID> postIds) {
+        Map<UUID, Set<String>> tagNames = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return tagNames;
+        }
+        entityManager.createQuery(
+                        "SELECT p.id, t.name FROM Post p JOIN p.tags t WHERE p.id IN :ids ORDER BY t.name",
+                        Tuple.class)
+                .setParameter("ids", postIds)
+                .getResultList()
+                .forEach(row -> tagNames.computeIfAbsent(row.get(0, UUID.class), id -> new LinkedHashSet<>())
+                        .add(row.get(1, String.class)));
+        return tagNames;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.blogplatform.repositories;
 
+import com.example.blogplatform.domain.dtos.TagDto;
 import com.example.blogplatform.domain.entities.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,8 +12,13 @@ import java.util.UUID;
 @Repository
 public interface TagRepository extends JpaRepository<Tag, UUID> {
 
-    @Query("SELECT t FROM Tag t LEFT JOIN FETCH t.posts")
-    List<Tag> findAllWithPostCount();
+    @Query("""
+            SELECT new com.example.blogplatform.domain.dtos.TagDto(t.id, t.name, CAST(COUNT(p) AS Integer))
+            FROM Tag t
+            LEFT JOIN t.posts p ON p.status = com.example.blogplatform.domain.PostStatus.PUBLISHED
+            GROUP BY t.id, t.name
+            """)
+    List<TagDto> findAllWithPostCount();
 
     boolean existsByNameIgnoreCase(String name);
 }
@@ -2,7 +2,10 @@ package com.example.blogplatform.repositories;
 
 import com.example.blogplatform.domain.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -11,4 +14,15 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByEmail(String email);
+
+    /**
+     * Replaces the password hash of the user with the given email.
+     *
+     * @param email    the email of the user
+     * @param password the new, encoded password
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    void updatePassword(String email, String password);
 }
@@ -0,0 +1,379 @@
+package com.example.blogplatform.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the title and content of published posts, ranked with BM25.
+ * <p>
+ * Posts are mapped to dense, increasing document ids, so every postings list stays sorted and can be
+ * delta-encoded. Updating a post tombstones its old document and appends a new one; once tombstones
+ * make up half of the index, the postings are compacted. Reads and writes are guarded by a
+ * read-write lock, so searches run concurrently with each other.
+ * <p>
+ * Queries consist of bare terms, which are optional and contribute to the score, and
+ * {@code "quoted phrases"}, which every result must contain.
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_CONTENT_GAP = 1;
+    private static final int MIN_DOCS_FOR_COMPACTION = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> dictionary = new HashMap<>();
+    private final Map<UUID, Integer> docsByPostId = new HashMap<>();
+    private UUID[] postIds = new UUID[1024];
+    private int[] docLengths = new int[1024];
+    private final BitSet deleted = new BitSet();
+    private int nextDoc;
+    private int liveDocs;
+    private long liveLength;
+
+    /**
+     * Adds a post to the index, replacing any previously indexed version of it.
+     *
+     * @param postId  the id of the post
+     * @param title   the post's title
+     * @param content the post's content
+     */
+    public void index(UUID postId, String title, String content) {
+        Map<String, PositionList> terms = new HashMap<>();
+        int end = Tokenizer.tokenize(title, 0,
+                (term, position) -> terms.computeIfAbsent(term, t -> new PositionList()).add(position));
+        int length = Tokenizer.tokenize(content, end + TITLE_CONTENT_GAP,
+                (term, position) -> terms.computeIfAbsent(term, t -> new PositionList()).add(position))
+                - TITLE_CONTENT_GAP;
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            int doc = nextDoc++;
+            ensureDocCapacity(doc + 1);
+            postIds[doc] = postId;
+            docLengths[doc] = length;
+            docsByPostId.put(postId, doc);
+            liveDocs++;
+            liveLength += length;
+            terms.forEach((term, positions) ->
+                    dictionary.computeIfAbsent(term, t -> new Postings()).add(doc, positions.values, positions.size));
+            compactIfNeededLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a post from the index; does nothing if it is not indexed.
+     *
+     * @param postId the id of the post
+     */
+    public void remove(UUID postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            compactIfNeededLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a post is currently indexed.
+     *
+     * @param postId the id of the post
+     * @return {@code true} if the post is indexed
+     */
+    public boolean contains(UUID postId) {
+        lock.readLock().lock();
+        try {
+            return docsByPostId.containsKey(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed posts.
+     *
+     * @return the number of live documents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of documents in the index, including tombstoned ones not yet compacted away.
+     */
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return nextDoc;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the posts best matching {@code query}.
+     *
+     * @param query the query; bare terms are optional, {@code "quoted phrases"} are required
+     * @param limit the maximum number of results
+     * @return the ids of the matching posts, best match first
+     */
+    public List<UUID> search(String query, int limit) {
+        ParsedQuery parsed = ParsedQuery.parse(query);
+        if (parsed.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet required = null;
+            for (List<String> phrase : parsed.phrases()) {
+                BitSet matches = matchPhrase(phrase);
+                if (required == null) {
+                    required = matches;
+                } else {
+                    required.and(matches);
+                }
+            }
+            if (required != null && required.isEmpty()) {
+                return List.of();
+            }
+
+            float[] scores = new float[nextDoc];
+            BitSet touched = new BitSet(nextDoc);
+            float averageLength = liveDocs == 0 ? 0 : (float) liveLength / liveDocs;
+            for (String term : parsed.scoringTerms()) {
+                Postings postings = dictionary.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                int docFrequency = postings.docFrequency();
+                double idf = Math.log(1 + (Math.max(0, liveDocs - docFrequency) + 0.5) / (docFrequency + 0.5));
+                Postings.Cursor cursor = postings.cursor();
+                while (cursor.next()) {
+                    int doc = cursor.doc();
+                    if (deleted.get(doc) || (required != null && !required.get(doc))) {
+                        continue;
+                    }
+                    float frequency = cursor.frequency();
+                    float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    scores[doc] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                    touched.set(doc);
+                }
+            }
+            return topDocs(scores, touched, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<UUID> topDocs(float[] scores, BitSet touched, int limit) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1,
+                (a, b) -> Float.compare(scores[a], scores[b]) != 0
+                        ? Float.compare(scores[a], scores[b])
+                        : Integer.compare(b, a));
+        for (int doc = touched.nextSetBit(0); doc >= 0; doc = touched.nextSetBit(doc + 1)) {
+            heap.offer(doc);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        UUID[] result = new UUID[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = postIds[heap.poll()];
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Finds the live documents containing the terms of {@code phrase} at consecutive positions.
+     */
+    private BitSet matchPhrase(List<String> phrase) {
+        BitSet matches = new BitSet();
+        Postings.Cursor[] cursors = new Postings.Cursor[phrase.size()];
+        for (int i = 0; i < cursors.length; i++) {
+            Postings postings = dictionary.get(phrase.get(i));
+            if (postings == null) {
+                return matches;
+            }
+            cursors[i] = postings.cursor();
+        }
+
+        int[][] positions = new int[cursors.length][16];
+        int target = 0;
+        while (true) {
+            int candidate = target;
+            boolean aligned = true;
+            for (Postings.Cursor cursor : cursors) {
+                if (!cursor.advance(candidate)) {
+                    return matches;
+                }
+                if (cursor.doc() > candidate) {
+                    candidate = cursor.doc();
+                    aligned = false;
+                }
+            }
+            if (!aligned) {
+                target = candidate;
+                continue;
+            }
+            if (!deleted.get(candidate) && containsPhraseAt(cursors, positions)) {
+                matches.set(candidate);
+            }
+            target = candidate + 1;
+        }
+    }
+
+    private static boolean containsPhraseAt(Postings.Cursor[] cursors, int[][] positions) {
+        for (int i = 0; i < cursors.length; i++) {
+            positions[i] = cursors[i].positions(positions[i]);
+        }
+        for (int p = 0; p < cursors[0].frequency(); p++) {
+            int start = positions[0][p];
+            boolean match = true;
+            for (int i = 1; i < cursors.length && match; i++) {
+                match = Arrays.binarySearch(positions[i], 0, cursors[i].frequency(), start + i) >= 0;
+            }
+            if (match) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeLocked(UUID postId) {
+        Integer doc = docsByPostId.remove(postId);
+        if (doc != null) {
+            deleted.set(doc);
+            liveDocs--;
+            liveLength -= docLengths[doc];
+            postIds[doc] = null;
+        }
+    }
+
+    private void compactIfNeededLocked() {
+        if (nextDoc >= MIN_DOCS_FOR_COMPACTION && deleted.cardinality() * 2 > nextDoc) {
+            compactLocked();
+        }
+    }
+
+    /**
+     * Rewrites all postings without tombstoned documents and renumbers the remaining ones densely.
+     */
+    private void compactLocked() {
+        int[] remap = new int[nextDoc];
+        int next = 0;
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = next;
+                postIds[next] = postIds[doc];
+                docLengths[next] = docLengths[doc];
+                docsByPostId.put(postIds[next], next);
+                next++;
+            }
+        }
+        Arrays.fill(postIds, next, nextDoc, null);
+
+        int[] buffer = new int[16];
+        var iterator = dictionary.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            Postings compacted = new Postings();
+            Postings.Cursor cursor = entry.getValue().cursor();
+            while (cursor.next()) {
+                int doc = remap[cursor.doc()];
+                if (doc >= 0) {
+                    buffer = cursor.positions(buffer);
+                    compacted.add(doc, buffer, cursor.frequency());
+                }
+            }
+            if (compacted.docFrequency() == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(compacted);
+            }
+        }
+        deleted.clear();
+        nextDoc = next;
+    }
+
+    private void ensureDocCapacity(int required) {
+        if (required > postIds.length) {
+            int capacity = Math.max(required, postIds.length << 1);
+            postIds = Arrays.copyOf(postIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+    }
+
+    /**
+     * Growable list of the positions of one term within the document being indexed.
+     */
+    private static final class PositionList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = position;
+        }
+    }
+
+    /**
+     * A query split into required phrases and the terms contributing to the score.
+     */
+    private record ParsedQuery(List<List<String>> phrases, Set<String> scoringTerms) {
+
+        static ParsedQuery parse(String query) {
+            List<List<String>> phrases = new ArrayList<>();
+            Set<String> terms = new LinkedHashSet<>();
+            if (query == null) {
+                return new ParsedQuery(phrases, terms);
+            }
+            String[] parts = query.split("\"", -1);
+            for (int i = 0; i < parts.length; i++) {
+                boolean quoted = i % 2 == 1 && i < parts.length - 1;
+                if (quoted) {
+                    List<String> phrase = new ArrayList<>();
+                    Tokenizer.tokenize(parts[i], 0, (term, position) -> phrase.add(term));
+                    if (!phrase.isEmpty()) {
+                        phrases.add(phrase);
+                        terms.addAll(phrase);
+                    }
+                } else {
+                    Tokenizer.tokenize(parts[i], 0, (term, position) -> terms.add(term));
+                }
+            }
+            return new ParsedQuery(phrases, terms);
+        }
+
+        boolean isEmpty() {
+            return scoringTerms.isEmpty();
+        }
+    }
+}
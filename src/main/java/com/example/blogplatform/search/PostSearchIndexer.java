@@ -0,0 +1,86 @@
+package com.example.blogplatform.search;
+
+import com.example.blogplatform.domain.PostStatus;
+import com.example.blogplatform.domain.events.PostChangedEvent;
+import com.example.blogplatform.repositories.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@link PostSearchIndex} in sync with the database.
+ * <p>
+ * The index is filled in the background from all published posts once the application is ready,
+ * reading them in keyset-ordered batches on the {@code @Async} executor. Afterwards it is updated
+ * incrementally from {@link PostChangedEvent}s, handled only after the publishing transaction has
+ * committed. Posts changed while the initial build is running are left to the event handler, so
+ * the build never overwrites newer data.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndexer {
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+
+    private final Set<UUID> changedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean building;
+
+    @Value("${blog.search.build-batch-size:500}")
+    private int batchSize;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        building = true;
+        long start = System.nanoTime();
+        try {
+            UUID after = null;
+            List<SearchDocument> batch;
+            do {
+                batch = postRepository.findSearchDocuments(PostStatus.PUBLISHED, after, Limit.of(batchSize));
+                for (SearchDocument document : batch) {
+                    if (!changedDuringBuild.contains(document.id())) {
+                        postSearchIndex.index(document.id(), document.title(), document.content());
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    after = batch.get(batch.size() - 1).id();
+                }
+            } while (batch.size() == batchSize);
+        } finally {
+            building = false;
+            changedDuringBuild.clear();
+        }
+        log.info("Built search index with {} posts in {} ms",
+                postSearchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (building) {
+            changedDuringBuild.add(event.postId());
+        }
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            postSearchIndex.remove(event.postId());
+            return;
+        }
+        postRepository.findSearchDocument(event.postId(), PostStatus.PUBLISHED)
+                .ifPresentOrElse(
+                        document -> postSearchIndex.index(document.id(), document.title(), document.content()),
+                        () -> postSearchIndex.remove(event.postId()));
+    }
+}
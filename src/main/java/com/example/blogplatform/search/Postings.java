@@ -0,0 +1,113 @@
+package com.example.blogplatform.search;
+
+import java.util.Arrays;
+
+/**
+ * Append-only postings list of a single term, stored in one growable {@code int[]}.
+ * <p>
+ * Each document entry is encoded as {@code [docDelta, termFrequency, posDelta...]}: the document id
+ * is delta-encoded against the previous entry and positions are delta-encoded within the entry.
+ * Documents must therefore be appended in increasing id order. Not thread-safe; guarded by
+ * {@link PostSearchIndex}.
+ */
+final class Postings {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] data = new int[INITIAL_CAPACITY];
+    private int size;
+    private int lastDoc = -1;
+    private int docFrequency;
+
+    void add(int doc, int[] positions, int count) {
+        ensureCapacity(size + 2 + count);
+        data[size++] = lastDoc < 0 ? doc : doc - lastDoc;
+        data[size++] = count;
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            data[size++] = positions[i] - previous;
+            previous = positions[i];
+        }
+        lastDoc = doc;
+        docFrequency++;
+    }
+
+    int docFrequency() {
+        return docFrequency;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length + (data.length >> 1)));
+        }
+    }
+
+    /**
+     * Forward-only iterator over the entries of the enclosing postings list.
+     */
+    final class Cursor {
+
+        private int offset;
+        private int doc = -1;
+        private int frequency;
+        private int positionsOffset;
+
+        /**
+         * Moves to the next document.
+         *
+         * @return {@code false} once the list is exhausted
+         */
+        boolean next() {
+            if (offset >= size) {
+                doc = Integer.MAX_VALUE;
+                return false;
+            }
+            doc = doc < 0 ? data[offset] : doc + data[offset];
+            frequency = data[offset + 1];
+            positionsOffset = offset + 2;
+            offset = positionsOffset + frequency;
+            return true;
+        }
+
+        /**
+         * Moves to the first document whose id is at least {@code target}.
+         *
+         * @return {@code false} if no such document exists
+         */
+        boolean advance(int target) {
+            while (doc < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        /**
+         * Decodes the positions of the current document into {@code buffer}, growing it if needed.
+         *
+         * @return the buffer holding the positions in its first {@link #frequency()} slots
+         */
+        int[] positions(int[] buffer) {
+            int[] target = buffer.length >= frequency ? buffer : new int[frequency];
+            int position = 0;
+            for (int i = 0; i < frequency; i++) {
+                position += data[positionsOffset + i];
+                target[i] = position;
+            }
+            return target;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.blogplatform.search;
+
+import java.util.UUID;
+
+/**
+ * The indexable fields of a post, as read by {@link PostSearchIndexer}.
+ *
+ * @param id      the id of the post
+ * @param title   the post's title
+ * @param content the post's content
+ */
+public record SearchDocument(UUID id, String title, String content) {
+}
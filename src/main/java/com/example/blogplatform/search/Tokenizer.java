@@ -0,0 +1,51 @@
+package com.example.blogplatform.search;
+
+/**
+ * Splits text into lower-cased terms made of letters and digits.
+ * <p>
+ * Every other character acts as a separator. Terms are emitted together with their position,
+ * counted from the given start position, so phrase queries can check adjacency.
+ */
+public final class Tokenizer {
+
+    /**
+     * Receives the terms produced by {@link #tokenize(CharSequence, int, TermConsumer)}.
+     */
+    @FunctionalInterface
+    public interface TermConsumer {
+        void accept(String term, int position);
+    }
+
+    private Tokenizer() {
+    }
+
+    /**
+     * Tokenizes {@code text}, passing every term to {@code consumer}.
+     *
+     * @param text          the text to tokenize; {@code null} is treated as empty
+     * @param startPosition the position assigned to the first term
+     * @param consumer      the receiver of the terms
+     * @return the position following the last emitted term
+     */
+    public static int tokenize(CharSequence text, int startPosition, TermConsumer consumer) {
+        int position = startPosition;
+        if (text == null) {
+            return position;
+        }
+        StringBuilder term = new StringBuilder(32);
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                term.append(Character.toLowerCase(c));
+            } else if (!term.isEmpty()) {
+                consumer.accept(term.toString(), position++);
+                term.setLength(0);
+            }
+        }
+        if (!term.isEmpty()) {
+            consumer.accept(term.toString(), position++);
+        }
+        return position;
+    }
+}
@@ -2,7 +2,6 @@ package com.example.blogplatform.security;
 
 import com.example.blogplatform.domain.entities.User;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,27 +17,55 @@ import java.util.UUID;
  * <p>This class is used by Spring Security during the authentication process
  * to retrieve user-specific data (such as username, password, and authorities).
  *
- * <p>Currently, all authenticated users are assigned a default role of {@code ROLE_USER}.
- * Additional roles or permissions can be added as needed.
+ * <p>Users loaded from the database are assigned a default role of {@code ROLE_USER}.
+ * Users reconstructed from the claims of a verified JWT carry the roles stored in the token
+ * and a {@link User} holding only the id and email.
  *
  * <p>The account is always considered active, unlocked, and non-expired.
  */
 @Getter
-@RequiredArgsConstructor
 public class BlogUserDetails implements UserDetails {
 
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
     private final User user;
 
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public BlogUserDetails(User user) {
+        this(user, DEFAULT_AUTHORITIES);
+    }
+
+    private BlogUserDetails(User user, Collection<? extends GrantedAuthority> authorities) {
+        this.user = user;
+        this.authorities = authorities;
+    }
+
+    /**
+     * Creates user details from the claims of an already verified token, without a database lookup.
+     *
+     * @param id    the user's id
+     * @param email the user's email, used as the username
+     * @param roles the names of the authorities granted to the user
+     * @return the reconstructed user details; the password is not available
+     */
+    public static BlogUserDetails fromClaims(UUID id, String email, Collection<String> roles) {
+        return new BlogUserDetails(
+                User.builder().id(id).email(email).build(),
+                roles.stream().map(SimpleGrantedAuthority::new).toList()
+        );
+    }
+
     /**
      * Returns the authorities granted to the user.
      * <p>
-     * In this implementation, all users are granted a single authority: {@code ROLE_USER}.
+     * Users loaded from the database are granted a single authority: {@code ROLE_USER}.
      *
      * @return a collection of granted authorities
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return authorities;
     }
 
     /**
@@ -4,6 +4,7 @@ import com.example.blogplatform.domain.entities.User;
 import com.example.blogplatform.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
@@ -16,9 +17,12 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
  *
  * <p>If the user is found, it is wrapped in a {@link BlogUserDetails} object and returned.
  * If not found, a {@link UsernameNotFoundException} is thrown.
+ *
+ * <p>As a {@link UserDetailsPasswordService}, it also stores passwords that Spring Security rehashed
+ * after a successful login, because the stored hash used an outdated format or work factor.
  */
 @RequiredArgsConstructor
-public class BlogUserDetailsService implements UserDetailsService {
+public class BlogUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -35,4 +39,20 @@ public class BlogUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User with email: " + email + " not found."));
         return new BlogUserDetails(user);
     }
+
+    /**
+     * Replaces the stored password hash of the user.
+     *
+     * @param user        the user that has just been authenticated
+     * @param newPassword the new, encoded password
+     * @return the user details carrying the new password
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        if (user instanceof BlogUserDetails blogUserDetails) {
+            blogUserDetails.getUser().setPassword(newPassword);
+        }
+        return user;
+    }
 }
@@ -0,0 +1,132 @@
+package com.example.blogplatform.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits login attempts per client IP address and per email, so that a burst of attempts is rejected
+ * before any password hashing or database access happens.
+ * <p>
+ * Every key has a token bucket holding up to {@code burst} attempts and refilled at {@code per-minute}.
+ * A bucket is a single {@link AtomicLong} with the time at which it will be full again (the generic cell rate
+ * algorithm), updated with one compare-and-set, so concurrent attempts never block each other.
+ * <p>
+ * Buckets expire once they would have refilled completely, so dropping one never allows more attempts than
+ * keeping it would have. They are never evicted for size instead, as cycling through many keys would then
+ * reset buckets that are still throttled. Once {@code max-keys} buckets are tracked, new keys share a single
+ * overflow bucket until some expire: during such a flood, logins for keys not seen before are limited
+ * together rather than individually.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Limit perIp;
+    private final Limit perEmail;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public LoginRateLimiter(
+            @Value("${blog.login-rate-limit.per-ip.burst:10}") int ipBurst,
+            @Value("${blog.login-rate-limit.per-ip.per-minute:20}") int ipPerMinute,
+            @Value("${blog.login-rate-limit.per-email.burst:5}") int emailBurst,
+            @Value("${blog.login-rate-limit.per-email.per-minute:5}") int emailPerMinute,
+            @Value("${blog.login-rate-limit.max-keys:100000}") long maxKeys,
+            MeterRegistry meterRegistry
+    ) {
+        this(ipBurst, ipPerMinute, emailBurst, emailPerMinute, maxKeys, meterRegistry, System::nanoTime);
+    }
+
+    LoginRateLimiter(int ipBurst, int ipPerMinute, int emailBurst, int emailPerMinute, long maxKeys,
+                     MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.perIp = new Limit("ip", ipBurst, ipPerMinute, maxKeys, meterRegistry);
+        this.perEmail = new Limit("email", emailBurst, emailPerMinute, maxKeys, meterRegistry);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Takes one login attempt from the buckets of {@code clientIp} and {@code email}.
+     *
+     * @param clientIp the address the request came from
+     * @param email    the email the client tries to log in with; may be {@code null}
+     * @throws RateLimitExceededException if either bucket is empty
+     */
+    public void acquire(String clientIp, String email) {
+        long now = nanoTime.getAsLong();
+        perIp.acquire(clientIp, now);
+        if (email != null) {
+            perEmail.acquire(email.trim().toLowerCase(Locale.ROOT), now);
+        }
+    }
+
+    private static final class Limit {
+
+        private final long intervalNanos;
+        private final long capacityNanos;
+        private final long maxKeys;
+        private final Cache<String, AtomicLong> buckets;
+        private final AtomicLong overflow = new AtomicLong(Long.MIN_VALUE);
+        private final Counter throttled;
+
+        Limit(String name, int burst, int perMinute, long maxKeys, MeterRegistry meterRegistry) {
+            if (burst < 1 || perMinute < 1) {
+                throw new IllegalArgumentException("Login rate limit per " + name + " must be positive");
+            }
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute;
+            this.capacityNanos = burst * intervalNanos;
+            this.maxKeys = maxKeys;
+            this.buckets = Caffeine.newBuilder()
+                    .expireAfterAccess(Duration.ofNanos(capacityNanos))
+                    .build();
+            this.throttled = Counter.builder("blog.login.throttled")
+                    .description("Login attempts rejected by the rate limiter")
+                    .tag("limit", name)
+                    .register(meterRegistry);
+            Gauge.builder("blog.login.rate-limiter.keys", buckets, Cache::estimatedSize)
+                    .description("Number of keys with a tracked login rate limit bucket")
+                    .tag("limit", name)
+                    .register(meterRegistry);
+        }
+
+        void acquire(String key, long now) {
+            AtomicLong bucket = bucket(key, now);
+            while (true) {
+                long fullAt = bucket.get();
+                long next = Math.max(fullAt, now) + intervalNanos;
+                long excess = next - now - capacityNanos;
+                if (excess > 0) {
+                    throttled.increment();
+                    throw new RateLimitExceededException(Duration.ofNanos(excess));
+                }
+                if (bucket.compareAndSet(fullAt, next)) {
+                    return;
+                }
+            }
+        }
+
+        private AtomicLong bucket(String key, long now) {
+            AtomicLong bucket = buckets.getIfPresent(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.estimatedSize() >= maxKeys) {
+                buckets.cleanUp();
+                if (buckets.estimatedSize() >= maxKeys) {
+                    return overflow;
+                }
+            }
+            return buckets.get(key, ignored -> new AtomicLong(now));
+        }
+    }
+}
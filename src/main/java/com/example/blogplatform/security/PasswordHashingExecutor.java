@@ -0,0 +1,66 @@
+package com.example.blogplatform.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs password hashing and verification on a small dedicated pool, so that login spikes cannot
+ * occupy the request threads serving the rest of the API.
+ * <p>
+ * Hashing is CPU-bound, so the pool has one thread per core by default
+ * ({@code blog.password-hashing.threads}) and a bounded queue ({@code blog.password-hashing.queue-capacity}).
+ * Once the queue is full, new work is rejected immediately with a {@link RejectedExecutionException},
+ * answered with 503, instead of queueing logins for longer than clients would wait for them.
+ */
+@Component
+public class PasswordHashingExecutor implements Executor {
+
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingExecutor(
+            @Value("${blog.password-hashing.threads:0}") int threads,
+            @Value("${blog.password-hashing.queue-capacity:32}") int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        Counter rejected = Counter.builder("blog.password-hashing.rejected")
+                .description("Password hashing tasks rejected because the queue was full")
+                .register(meterRegistry);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                (task, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Too many concurrent logins, retry shortly");
+                });
+        new ExecutorServiceMetrics(executor, "passwordHashing", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Queues {@code task} for execution.
+     *
+     * @throws RejectedExecutionException if the queue is full
+     */
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
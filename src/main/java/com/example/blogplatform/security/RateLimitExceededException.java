@@ -0,0 +1,35 @@
+package com.example.blogplatform.security;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a client has used up its allowance of attempts and has to wait before retrying.
+ * <p>
+ * Thrown at high rates under attack, so no stack trace is captured.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    /**
+     * How long the client has to wait until its next attempt is allowed.
+     */
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super("Too many attempts, retry in " + toSeconds(retryAfter) + "s", null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the wait in whole seconds, rounded up, as used by the {@code Retry-After} header.
+     */
+    public long getRetryAfterSeconds() {
+        return toSeconds(retryAfter);
+    }
+
+    private static long toSeconds(Duration duration) {
+        return Math.max(1, (duration.toMillis() + 999) / 1000);
+    }
+}
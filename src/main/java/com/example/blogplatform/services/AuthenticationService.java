@@ -2,9 +2,17 @@ package com.example.blogplatform.services;
 
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AuthenticationService {
 
-    UserDetails authenticate(String email, String password);
+    /**
+     * Verifies the credentials on the password hashing pool rather than the calling thread.
+     *
+     * @return the authenticated user, or a future failed with an {@code AuthenticationException}
+     * @throws java.util.concurrent.RejectedExecutionException if too many logins are already waiting
+     */
+    CompletableFuture<UserDetails> authenticate(String email, String password);
 
     String generateToken(UserDetails userDetails);
 
@@ -0,0 +1,27 @@
+package com.example.blogplatform.services;
+
+import com.example.blogplatform.domain.dtos.PostImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Service interface for importing posts in bulk.
+ */
+public interface PostImportService {
+
+    /**
+     * Imports posts from a stream of {@code CreatePostRequest}s, given either as a JSON array or as
+     * newline-delimited JSON.
+     * <p>
+     * Items are processed in chunks, each committed in its own transaction. Invalid items and items
+     * referencing unknown categories or tags are reported as failed without affecting the others.
+     *
+     * @param inputStream the request body
+     * @param userId      the id of the author of all imported posts
+     * @return a report with the outcome of every item
+     * @throws IOException if the stream cannot be read
+     */
+    PostImportReport importPosts(InputStream inputStream, UUID userId) throws IOException;
+}
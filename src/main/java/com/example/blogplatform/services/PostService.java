@@ -1,15 +1,26 @@
 package com.example.blogplatform.services;
 
 import com.example.blogplatform.domain.dtos.CreatePostRequest;
+import com.example.blogplatform.domain.dtos.CursorPage;
+import com.example.blogplatform.domain.dtos.PatchPostRequest;
 import com.example.blogplatform.domain.dtos.PostDto;
+import com.example.blogplatform.domain.dtos.PostSummaryDto;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface PostService {
-    List<PostDto> getAllPostsWithCriteria(UUID categoryId, UUID userId, UUID tagId);
+    CursorPage<PostSummaryDto> getAllPostsWithCriteria(UUID categoryId, UUID userId, UUID tagId, String cursor, Integer size);
 
-    List<PostDto> getUserDrafts(UUID userId);
+    CursorPage<PostSummaryDto> getUserDrafts(UUID userId, String cursor, Integer size);
+
+    List<PostSummaryDto> searchPosts(String query, Integer limit);
+
+    void exportPublishedPosts(UUID categoryId, UUID userId, UUID tagId, OutputStream outputStream) throws IOException;
 
     PostDto addPost(CreatePostRequest createPostRequest, UUID userId);
 
@@ -17,5 +28,29 @@ public interface PostService {
 
     PostDto getPost(UUID postId);
 
+    /**
+     * Returns when a post was last updated, for validating conditional requests.
+     * <p>
+     * Answered from the post cache when the post is cached, otherwise with a single-column query;
+     * never loads or maps the post itself.
+     *
+     * @param postId the id of the post
+     * @return the modification time, or an empty {@link Optional} if the post does not exist
+     */
+    Optional<LocalDateTime> getPostUpdatedAt(UUID postId);
+
     PostDto updatePost(UUID postId, CreatePostRequest createPostRequest, UUID userId);
+
+    /**
+     * Applies a partial update to a post, writing only the columns whose values actually change.
+     * <p>
+     * The content is re-analysed, and the category and tags are loaded, only when they differ from the
+     * current ones; a patch that changes nothing issues no update and publishes no event.
+     *
+     * @param postId           the id of the post
+     * @param patchPostRequest the fields to change; {@code null} fields are left as they are
+     * @param userId           the id of the requesting user, who must be the post's author
+     * @return the updated post
+     */
+    PostDto patchPost(UUID postId, PatchPostRequest patchPostRequest, UUID userId);
 }
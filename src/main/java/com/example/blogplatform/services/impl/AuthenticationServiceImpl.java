@@ -1,69 +1,122 @@
 package com.example.blogplatform.services.impl;
 
+import com.example.blogplatform.config.CacheConfig;
+import com.example.blogplatform.security.BlogUserDetails;
+import com.example.blogplatform.security.PasswordHashingExecutor;
 import com.example.blogplatform.services.AuthenticationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
+@Timed("blog.service")
 @RequiredArgsConstructor
 public class AuthenticationServiceImpl implements AuthenticationService {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+
     private final AuthenticationManager authenticationManager;
     private final UserDetailsService userDetailsService;
+    private final CacheManager cacheManager;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     @Value("${jwt.secret}")
     private String secretKey;
 
+    @Value("${jwt.trust-claims:true}")
+    private boolean trustClaims;
+
     private static final Long JWT_EXPIRY_MS = 86400000L;
 
+    private Key signingKey;
+    private JwtParser jwtParser;
+    private Cache verifiedTokens;
+
+    /**
+     * Builds the signing key and the (thread-safe) token parser once, instead of on every request.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = cacheManager.getCache(CacheConfig.VERIFIED_TOKENS_CACHE);
+    }
+
     @Override
-    public UserDetails authenticate(String email, String password) {
-        authenticationManager.authenticate(
+    public CompletableFuture<UserDetails> authenticate(String email, String password) {
+        // The authenticated principal is the user details already loaded for the password check
+        return CompletableFuture.supplyAsync(() -> (UserDetails) authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(email, password)
-        );
-        return userDetailsService.loadUserByUsername(email);
+        ).getPrincipal(), passwordHashingExecutor);
     }
 
     @Override
     public String generateToken(UserDetails userDetails) {
         Map<String,Object> claims = new HashMap<>();
+        if (userDetails instanceof BlogUserDetails blogUserDetails) {
+            claims.put(USER_ID_CLAIM, blogUserDetails.getId().toString());
+        }
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRY_MS))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the token's signature and expiry and resolves the user it was issued for.
+     * <p>
+     * When {@code jwt.trust-claims} is enabled and the token carries the user id and roles, the user
+     * details are built straight from the verified claims without touching the database. Otherwise
+     * (e.g. for tokens issued before these claims existed) the user is loaded from the database and
+     * the result is kept in a short-lived, bounded cache keyed by the token.
+     */
     @Override
     public UserDetails validateToken(String token) {
-        return userDetailsService.loadUserByUsername(extractUsername(token));
-    }
-
-    private  String extractUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        Object roles = claims.get(ROLES_CLAIM);
 
-    private Key getSigningKey(){
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+        if (trustClaims && userId != null && roles instanceof Collection<?> roleNames) {
+            return BlogUserDetails.fromClaims(
+                    UUID.fromString(userId),
+                    claims.getSubject(),
+                    roleNames.stream().map(String::valueOf).toList()
+            );
+        }
+        return verifiedTokens.get(token, () -> userDetailsService.loadUserByUsername(claims.getSubject()));
     }
 }
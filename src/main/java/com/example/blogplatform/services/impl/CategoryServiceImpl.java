@@ -3,30 +3,35 @@ package com.example.blogplatform.services.impl;
 import com.example.blogplatform.domain.dtos.CategoryDto;
 import com.example.blogplatform.domain.dtos.CreateCategoryRequest;
 import com.example.blogplatform.domain.entities.Category;
+import com.example.blogplatform.domain.events.CategoryChangedEvent;
 import com.example.blogplatform.mappers.CategoryMapper;
 import com.example.blogplatform.repositories.CategoryRepository;
+import com.example.blogplatform.repositories.PostRepository;
 import com.example.blogplatform.services.CategoryService;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@Timed("blog.service")
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<CategoryDto> listCategories() {
-        return categoryRepository.findAllWithPostCount()
-                .stream()
-                .map(categoryMapper::toDto)
-                .toList();
+        return categoryRepository.findAllWithPostCount();
     }
 
     @Override
@@ -35,7 +40,9 @@ public class CategoryServiceImpl implements CategoryService {
         if (categoryRepository.existsByNameIgnoreCase(categoryRequest.getName())) {
             throw new IllegalArgumentException("Category already exists with name: " + categoryRequest.getName());
         }
-        return categoryMapper.toDto(categoryRepository.save(categoryMapper.toEntity(categoryRequest)));
+        Category savedCategory = categoryRepository.save(categoryMapper.toEntity(categoryRequest));
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId(), CategoryChangedEvent.Type.CREATED));
+        return categoryMapper.toDto(savedCategory);
     }
 
     @Override
@@ -45,10 +52,11 @@ public class CategoryServiceImpl implements CategoryService {
         if (category.isEmpty()) {
             throw new IllegalArgumentException("Category with id: " + id + " not found");
         }
-        if (!category.get().getPosts().isEmpty()) {
+        if (postRepository.existsByCategoryId(id)) {
             throw new IllegalStateException("Category " + category.get().getName() + " has posts associated with it");
         }
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id, CategoryChangedEvent.Type.DELETED));
         return null;
     }
 }
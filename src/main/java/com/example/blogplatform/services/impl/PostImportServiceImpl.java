@@ -0,0 +1,222 @@
+package com.example.blogplatform.services.impl;
+
+import com.example.blogplatform.content.ContentAnalyzer;
+import com.example.blogplatform.domain.dtos.CreatePostRequest;
+import com.example.blogplatform.domain.dtos.PostImportReport;
+import com.example.blogplatform.domain.dtos.PostImportResult;
+import com.example.blogplatform.domain.entities.Category;
+import com.example.blogplatform.domain.entities.Post;
+import com.example.blogplatform.domain.entities.Tag;
+import com.example.blogplatform.domain.entities.User;
+import com.example.blogplatform.domain.events.PostChangedEvent;
+import com.example.blogplatform.repositories.CategoryRepository;
+import com.example.blogplatform.repositories.PostRepository;
+import com.example.blogplatform.repositories.TagRepository;
+import com.example.blogplatform.repositories.UserRepository;
+import com.example.blogplatform.services.PostImportService;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("blog.service")
+@RequiredArgsConstructor
+@Slf4j
+public class PostImportServiceImpl implements PostImportService {
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${blog.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public PostImportReport importPosts(InputStream inputStream, UUID userId) throws IOException {
+        PostImportReport report = new PostImportReport();
+        List<CreatePostRequest> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        int chunkStart = 0;
+
+        try (MappingIterator<CreatePostRequest> items = objectMapper.readerFor(CreatePostRequest.class).readValues(inputStream)) {
+            while (true) {
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    chunk.add(items.nextValue());
+                } catch (JsonParseException e) {
+                    report.getResults().add(failure(index, "Malformed JSON, import stopped: " + e.getOriginalMessage()));
+                    break;
+                } catch (JsonMappingException e) {
+                    chunk.add(null);
+                    report.getResults().add(failure(index, "Invalid item: " + e.getOriginalMessage()));
+                }
+                index++;
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, chunkStart, userId, report);
+                    chunkStart = index;
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, chunkStart, userId, report);
+        }
+
+        report.getResults().sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        report.setTotal(report.getResults().size());
+        report.setCreated((int) report.getResults().stream()
+                .filter(result -> result.getStatus() == PostImportResult.Status.CREATED)
+                .count());
+        report.setFailed(report.getTotal() - report.getCreated());
+        return report;
+    }
+
+    /**
+     * Imports one chunk in its own transaction; {@code null} items failed to deserialize and were
+     * already reported. If the chunk cannot be committed, all of its items are reported as failed.
+     */
+    private void importChunk(List<CreatePostRequest> chunk, int chunkStart, UUID userId, PostImportReport report) {
+        List<PostImportResult> results = new ArrayList<>(chunk.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> results.addAll(persistChunk(chunk, chunkStart, userId)));
+        } catch (RuntimeException e) {
+            log.error("Failed to import chunk starting at item {}: {}", chunkStart, e.getMessage(), e);
+            results.clear();
+            for (int i = 0; i < chunk.size(); i++) {
+                if (chunk.get(i) != null) {
+                    results.add(failure(chunkStart + i, "Chunk could not be saved: " + e.getMessage()));
+                }
+            }
+        }
+        report.getResults().addAll(results);
+    }
+
+    private List<PostImportResult> persistChunk(List<CreatePostRequest> chunk, int chunkStart, UUID userId) {
+        Set<UUID> categoryIds = new HashSet<>();
+        Set<UUID> tagIds = new HashSet<>();
+        for (CreatePostRequest request : chunk) {
+            if (request != null) {
+                if (request.getCategoryId() != null) {
+                    categoryIds.add(request.getCategoryId());
+                }
+                if (request.getTagIds() != null) {
+                    tagIds.addAll(request.getTagIds());
+                }
+            }
+        }
+        Map<UUID, Category> categories = categoryRepository.findAllById(categoryIds)
+                .stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<UUID, Tag> tags = tagRepository.findAllById(tagIds)
+                .stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+        User author = userRepository.getReferenceById(userId);
+
+        List<PostImportResult> results = new ArrayList<>(chunk.size());
+        List<Post> posts = new ArrayList<>(chunk.size());
+        List<Integer> postIndexes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            CreatePostRequest request = chunk.get(i);
+            if (request == null) {
+                continue;
+            }
+            if (request.getTagIds() == null) {
+                // An explicit null means no tags, like leaving the field out
+                request.setTagIds(new HashSet<>());
+            }
+            String error = validate(request, categories, tags);
+            if (error != null) {
+                results.add(failure(chunkStart + i, error));
+                continue;
+            }
+            Post post = new Post();
+            post.setTitle(request.getTitle());
+            post.applyContent(request.getContent(), ContentAnalyzer.analyze(request.getContent()));
+            post.setStatus(request.getStatus());
+            post.setAuthor(author);
+            post.setCategory(categories.get(request.getCategoryId()));
+            post.setTags(request.getTagIds().stream().map(tags::get).collect(Collectors.toSet()));
+            posts.add(post);
+            postIndexes.add(chunkStart + i);
+        }
+
+        postRepository.saveAll(posts);
+        entityManager.flush();
+        for (int i = 0; i < posts.size(); i++) {
+            UUID postId = posts.get(i).getId();
+            results.add(PostImportResult.builder()
+                    .index(postIndexes.get(i))
+                    .status(PostImportResult.Status.CREATED)
+                    .postId(postId)
+                    .build());
+            eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.CREATED));
+        }
+        entityManager.clear();
+        return results;
+    }
+
+    private String validate(CreatePostRequest request, Map<UUID, Category> categories, Map<UUID, Tag> tags) {
+        Set<ConstraintViolation<CreatePostRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!categories.containsKey(request.getCategoryId())) {
+            return "Category with id: " + request.getCategoryId() + " not found";
+        }
+        List<UUID> missingTags = request.getTagIds()
+                .stream()
+                .filter(Objects::nonNull)
+                .filter(tagId -> !tags.containsKey(tagId))
+                .toList();
+        if (!missingTags.isEmpty() || request.getTagIds().contains(null)) {
+            return "Tags with ids: " + missingTags + " not found";
+        }
+        return null;
+    }
+
+    private static PostImportResult failure(int index, String error) {
+        return PostImportResult.builder()
+                .index(index)
+                .status(PostImportResult.Status.FAILED)
+                .error(error)
+                .build();
+    }
+}
@@ -1,32 +1,66 @@
 package com.example.blogplatform.services.impl;
 
+import com.example.blogplatform.config.CacheConfig;
+import com.example.blogplatform.content.ContentAnalyzer;
+import com.example.blogplatform.domain.PostCursor;
 import com.example.blogplatform.domain.PostStatus;
 import com.example.blogplatform.domain.dtos.CreatePostRequest;
+import com.example.blogplatform.domain.dtos.CursorPage;
+import com.example.blogplatform.domain.dtos.PatchPostRequest;
 import com.example.blogplatform.domain.dtos.PostDto;
+import com.example.blogplatform.domain.dtos.PostExportDto;
+import com.example.blogplatform.domain.dtos.PostSummaryDto;
+import com.example.blogplatform.domain.entities.Category;
 import com.example.blogplatform.domain.entities.Post;
+import com.example.blogplatform.domain.entities.Tag;
 import com.example.blogplatform.domain.entities.User;
+import com.example.blogplatform.domain.events.PostChangedEvent;
 import com.example.blogplatform.mappers.PostMapper;
 import com.example.blogplatform.repositories.CategoryRepository;
 import com.example.blogplatform.repositories.PostRepository;
 import com.example.blogplatform.repositories.TagRepository;
 import com.example.blogplatform.repositories.UserRepository;
+import com.example.blogplatform.search.PostSearchIndex;
 import com.example.blogplatform.services.PostService;
 import com.example.blogplatform.specification.PostSpecification;
-import jakarta.transaction.Transactional;
+import com.example.blogplatform.utils.Patcher;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("blog.service")
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
-    private static final Integer WORDS_PER_MINUTE = 200;
-
     private final PostRepository postRepository;
     private final PostMapper postMapper;
 
@@ -34,73 +68,174 @@ public class PostServiceImpl implements PostService {
     private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
 
+    private final PostSearchIndex postSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+
+    @Value("${blog.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${blog.pagination.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${blog.export.batch-size:500}")
+    private int exportBatchSize;
+
+    /**
+     * Loads the post on a cache miss. Unlike other reads, this one goes to the primary database: an entry
+     * loaded from a lagging replica right after an update would otherwise stay cached until it expires.
+     */
     @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.POSTS_CACHE, key = "#postId", sync = true)
     public PostDto getPost(UUID postId) {
-        return postMapper.toDto(postRepository.findById(postId)
+        return postMapper.toDto(postRepository.findDetailedById(postId)
                 .orElseThrow(() -> new IllegalStateException("Post with id " + postId + " not found")));
     }
 
     @Override
-    public List<PostDto> getAllPostsWithCriteria(UUID categoryId, UUID userId, UUID tagId) {
-        return postRepository.findAll(
-                        PostSpecification.hasStatus(PostStatus.PUBLISHED)
-                                .and(PostSpecification.hasCategory(categoryId))
-                                .and(PostSpecification.hasAuthor(userId))
-                                .and(PostSpecification.hasTag(tagId)))
-                .stream()
-                .map(postMapper::toDto)
-                .toList();
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getPostUpdatedAt(UUID postId) {
+        Cache cache = cacheManager.getCache(CacheConfig.POSTS_CACHE);
+        PostDto cached = cache != null ? cache.get(postId, PostDto.class) : null;
+        if (cached != null) {
+            return Optional.of(cached.getUpdatedAt());
+        }
+        return postRepository.findUpdatedAtById(postId);
     }
 
     @Override
-    public List<PostDto> getUserDrafts(UUID userId) {
-        return postRepository.findAll(
-                        PostSpecification.hasAuthor(userId)
-                                .and(PostSpecification.hasStatus(PostStatus.DRAFT)))
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummaryDto> getAllPostsWithCriteria(UUID categoryId, UUID userId, UUID tagId, String cursor, Integer size) {
+        return findPage(
+                PostSpecification.hasStatus(PostStatus.PUBLISHED)
+                        .and(PostSpecification.hasCategory(categoryId))
+                        .and(PostSpecification.hasAuthor(userId))
+                        .and(PostSpecification.hasTag(tagId)),
+                cursor,
+                size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummaryDto> getUserDrafts(UUID userId, String cursor, Integer size) {
+        return findPage(
+                PostSpecification.hasAuthor(userId)
+                        .and(PostSpecification.hasStatus(PostStatus.DRAFT)),
+                cursor,
+                size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostSummaryDto> searchPosts(String query, Integer limit) {
+        List<UUID> ids = postSearchIndex.search(query, resolvePageSize(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            ranks.put(ids.get(i), i);
+        }
+        return postRepository.findSummaries(
+                        PostSpecification.hasIdIn(ids).and(PostSpecification.hasStatus(PostStatus.PUBLISHED)),
+                        Sort.unsorted(),
+                        ids.size())
                 .stream()
-                .map(postMapper::toDto)
+                .sorted(Comparator.comparing(summary -> ranks.get(summary.getId())))
                 .toList();
     }
 
+    /**
+     * Writes every published post matching the filters to {@code outputStream} as newline-delimited JSON.
+     * <p>
+     * Rows are read through a forward-only cursor and written batch by batch, so memory use stays flat
+     * regardless of the number of exported posts. The transaction is required for the database to
+     * honour the fetch size instead of materializing the whole result.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPublishedPosts(UUID categoryId, UUID userId, UUID tagId, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(PostExportDto.class);
+        try {
+            postRepository.streamExport(
+                    PostSpecification.hasStatus(PostStatus.PUBLISHED)
+                            .and(PostSpecification.hasCategory(categoryId))
+                            .and(PostSpecification.hasAuthor(userId))
+                            .and(PostSpecification.hasTag(tagId)),
+                    exportBatchSize,
+                    batch -> {
+                        try {
+                            for (PostExportDto row : batch) {
+                                outputStream.write(writer.writeValueAsBytes(row));
+                                outputStream.write('\n');
+                            }
+                            outputStream.flush();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.POSTS_CACHE, key = "#result.id")
     public PostDto addPost(CreatePostRequest createPostRequest, UUID userId) {
-        Post post = createOrUpdatePost(createPostRequest);
+        Post post = newPost(createPostRequest);
 
+        // Loaded rather than proxied: the response includes the author's name
         post.setAuthor(userRepository.findById(userId).orElseThrow(() ->
                 new IllegalArgumentException("User with id: " + userId + " not found!")));
 
         post.setCreatedAt(LocalDateTime.now());
 
-        return postMapper.toDto(postRepository.save(post));
+        Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), PostChangedEvent.Type.CREATED));
+        return postMapper.toDto(savedPost);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.POSTS_CACHE, key = "#postId")
     public PostDto updatePost(UUID postId, CreatePostRequest createPostRequest, UUID userId) {
-        Post existingPost = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalStateException("Post with id " + postId + " not found"));
-
-        User author = existingPost.getAuthor();
-        LocalDateTime createdAt = existingPost.getCreatedAt();
-
-        if (!author.getId().equals(userId)) {
-            throw new IllegalArgumentException("User with id: " + userId
-                    + " is not author of this post! (postId: " + postId + ")");
+        Post post = findEditablePost(postId, userId, createPostRequest.getVersion());
+        if (applyChanges(post, createPostRequest.getTitle(), createPostRequest.getContent(),
+                createPostRequest.getCategoryId(), createPostRequest.getTagIds(), createPostRequest.getStatus())) {
+            eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.UPDATED));
         }
+        return postMapper.toDto(post);
+    }
 
-        existingPost = createOrUpdatePost(createPostRequest);
-        existingPost.setAuthor(author);
-        existingPost.setId(postId);
-        existingPost.setCreatedAt(createdAt);
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.POSTS_CACHE, key = "#postId")
+    public PostDto patchPost(UUID postId, PatchPostRequest patchPostRequest, UUID userId) {
+        Post post = findEditablePost(postId, userId, patchPostRequest.getVersion());
 
-        return postMapper.toDto(postRepository.save(existingPost));
+        PatchPostRequest target = PatchPostRequest.builder()
+                .title(post.getTitle())
+                .content(post.getContent())
+                .categoryId(post.getCategory().getId())
+                .tagIds(post.getTags().stream().map(Tag::getId).collect(Collectors.toSet()))
+                .status(post.getStatus())
+                .version(post.getVersion())
+                .build();
+        if (Patcher.patch(target, patchPostRequest) && applyChanges(post, target.getTitle(), target.getContent(),
+                target.getCategoryId(), target.getTagIds(), target.getStatus())) {
+            eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.UPDATED));
+        }
+        return postMapper.toDto(post);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.POSTS_CACHE, key = "#postId")
     public PostDto removePost(UUID postId, UUID userId) {
-        Post post = postRepository.findById(postId).orElseThrow(() ->
+        Post post = postRepository.findDetailedById(postId).orElseThrow(() ->
                 new IllegalArgumentException("Post with id: " + postId + " not found!"));
 
         if (!post.getAuthor().getId().equals(userId)) {
@@ -108,35 +243,170 @@ public class PostServiceImpl implements PostService {
                     + " is not author of this post! (post's id: " + postId + ")");
         }
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.DELETED));
         return postMapper.toDto(post);
     }
 
-    private Integer calculateReadingTime(String content) {
-        if (content == null || content.isEmpty()) {
-            return 0;
+    /**
+     * Loads one keyset page of post summaries matching {@code filters}, newest first.
+     * <p>
+     * Fetches at most {@code size + 1} rows so the presence of a further page can be
+     * detected without a count query; the cost stays proportional to the page size
+     * regardless of how deep the cursor points.
+     */
+    private CursorPage<PostSummaryDto> findPage(Specification<Post> filters, String cursorToken, Integer size) {
+        PostCursor cursor = PostCursor.decode(cursorToken);
+        int pageSize = resolvePageSize(size);
+        boolean backwards = cursor != null && cursor.direction() == PostCursor.Direction.BEFORE;
+        Sort.Direction order = backwards ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        List<PostSummaryDto> rows = postRepository.findSummaries(
+                filters.and(PostSpecification.isBeyondCursor(cursor)),
+                Sort.by(order, "createdAt", "id"),
+                pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<PostSummaryDto> page = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        if (backwards) {
+            Collections.reverse(page);
         }
 
-        int wordCount = content.trim().split("\\s+").length;
-        return (int) Math.ceil((double) wordCount / WORDS_PER_MINUTE);
+        String next = null;
+        String prev = null;
+        if (!page.isEmpty()) {
+            PostSummaryDto first = page.get(0);
+            PostSummaryDto last = page.get(page.size() - 1);
+            if (backwards || hasMore) {
+                next = new PostCursor(last.getCreatedAt(), last.getId(), PostCursor.Direction.AFTER).encode();
+            }
+            if (backwards ? hasMore : cursor != null) {
+                prev = new PostCursor(first.getCreatedAt(), first.getId(), PostCursor.Direction.BEFORE).encode();
+            }
+        }
+
+        return CursorPage.<PostSummaryDto>builder()
+                .items(page)
+                .next(next)
+                .prev(prev)
+                .size(pageSize)
+                .build();
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive, got: " + size);
+        }
+        return Math.min(size, maxPageSize);
     }
 
     @Transactional
-    protected Post createOrUpdatePost(CreatePostRequest createPostRequest) {
+    protected Post newPost(CreatePostRequest createPostRequest) {
         LocalDateTime now = LocalDateTime.now();
         Post post = new Post();
         post.setTitle(createPostRequest.getTitle());
-        post.setContent(createPostRequest.getContent());
+        post.applyContent(createPostRequest.getContent(), ContentAnalyzer.analyze(createPostRequest.getContent()));
         post.setStatus(createPostRequest.getStatus());
         post.setUpdatedAt(now);
-        post.setReadingTime(calculateReadingTime(createPostRequest.getContent()));
-        post.setCategory(categoryRepository.findById(createPostRequest.getCategoryId()).orElseThrow(() ->
-                new IllegalArgumentException("Category with id: " + createPostRequest.getCategoryId() + " not found"))
-        );
-        post.setTags(createPostRequest.getTagIds()
-                .stream()
-                .map(tagId -> tagRepository.findById(tagId)
-                        .orElseThrow()).collect(Collectors.toSet())
-        );
+        References references = findReferences(createPostRequest.getCategoryId(), createPostRequest.getTagIds());
+        post.setCategory(references.category());
+        post.setTags(references.tags());
+        return post;
+    }
+
+    /**
+     * The category and tags referenced by a post write.
+     */
+    private record References(Category category, Set<Tag> tags) {
+    }
+
+    /**
+     * Loads a category and a set of tags with at most one query each, however many tags there are.
+     *
+     * @param categoryId the category to load, or {@code null} if none is needed
+     * @param tagIds     the tags to load
+     * @throws IllegalArgumentException naming every id that does not exist
+     */
+    private References findReferences(UUID categoryId, Set<UUID> tagIds) {
+        Category category = categoryId != null ? categoryRepository.findById(categoryId).orElse(null) : null;
+        Set<Tag> tags = tagIds.isEmpty() ? new HashSet<>() : new HashSet<>(tagRepository.findAllById(tagIds));
+
+        List<String> missing = new ArrayList<>();
+        if (categoryId != null && category == null) {
+            missing.add("category " + categoryId);
+        }
+        if (tags.size() < tagIds.size()) {
+            Set<UUID> missingTagIds = new HashSet<>(tagIds);
+            tags.forEach(tag -> missingTagIds.remove(tag.getId()));
+            missing.add("tags " + missingTagIds);
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Referenced entities not found: " + String.join(", ", missing));
+        }
+        return new References(category, tags);
+    }
+
+    /**
+     * Loads a post for modification by {@code userId}.
+     *
+     * @param expectedVersion the version the client based its changes on, or {@code null} if unknown
+     * @throws ObjectOptimisticLockingFailureException if the post has been modified since {@code expectedVersion}
+     */
+    private Post findEditablePost(UUID postId, UUID userId, Long expectedVersion) {
+        Post post = postRepository.findDetailedById(postId)
+                .orElseThrow(() -> new IllegalStateException("Post with id " + postId + " not found"));
+
+        if (!post.getAuthor().getId().equals(userId)) {
+            throw new IllegalArgumentException("User with id: " + userId
+                    + " is not author of this post! (postId: " + postId + ")");
+        }
+        if (expectedVersion != null && !expectedVersion.equals(post.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Post.class, postId);
+        }
         return post;
     }
+
+    /**
+     * Applies the given values to a managed post in place, touching only what differs: unchanged content is
+     * not re-analysed, and only added and removed tags are written to the join table. Together with
+     * {@code @DynamicUpdate}, the resulting UPDATE contains only the changed columns.
+     *
+     * @return {@code true} if anything changed, in which case the modification time is updated
+     */
+    private boolean applyChanges(Post post, String title, String content, UUID categoryId, Set<UUID> tagIds,
+                                 PostStatus status) {
+        boolean changed = false;
+        if (!title.equals(post.getTitle())) {
+            post.setTitle(title);
+            changed = true;
+        }
+        if (status != post.getStatus()) {
+            post.setStatus(status);
+            changed = true;
+        }
+        changed |= post.updateContent(content);
+
+        UUID changedCategoryId = categoryId.equals(post.getCategory().getId()) ? null : categoryId;
+        Set<UUID> addedTagIds = new HashSet<>(tagIds);
+        for (Tag tag : post.getTags()) {
+            addedTagIds.remove(tag.getId());
+        }
+        References references = findReferences(changedCategoryId, addedTagIds);
+        if (references.category() != null) {
+            post.setCategory(references.category());
+            changed = true;
+        }
+        changed |= post.getTags().removeIf(tag -> !tagIds.contains(tag.getId()));
+        if (!references.tags().isEmpty()) {
+            post.getTags().addAll(references.tags());
+            changed = true;
+        }
+
+        if (changed) {
+            post.setUpdatedAt(LocalDateTime.now());
+        }
+        return changed;
+    }
 }
@@ -3,49 +3,60 @@ package com.example.blogplatform.services.impl;
 import com.example.blogplatform.domain.dtos.CreateTagRequest;
 import com.example.blogplatform.domain.dtos.TagDto;
 import com.example.blogplatform.domain.entities.Tag;
+import com.example.blogplatform.domain.events.TagChangedEvent;
 import com.example.blogplatform.mappers.TagMapper;
+import com.example.blogplatform.repositories.PostRepository;
 import com.example.blogplatform.repositories.TagRepository;
 import com.example.blogplatform.services.TagService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@Timed("blog.service")
 @RequiredArgsConstructor
 public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
     private final TagMapper tagMapper;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<TagDto> getAllTags() {
-        return tagRepository.findAllWithPostCount()
-                .stream()
-                .map(tagMapper::toDto)
-                .toList();
+        return tagRepository.findAllWithPostCount();
     }
 
     @Override
+    @Transactional
     public TagDto createTag(CreateTagRequest createTagRequest) {
         if (tagRepository.existsByNameIgnoreCase(createTagRequest.getName())) {
             throw new IllegalArgumentException("Tag already exists with name: " + createTagRequest.getName());
         }
-        return tagMapper.toDto(tagRepository.save(tagMapper.toEntity(createTagRequest)));
+        Tag savedTag = tagRepository.save(tagMapper.toEntity(createTagRequest));
+        eventPublisher.publishEvent(new TagChangedEvent(savedTag.getId(), TagChangedEvent.Type.CREATED));
+        return tagMapper.toDto(savedTag);
     }
 
     @Override
+    @Transactional
     public TagDto deleteTag(UUID id) {
         Optional<Tag> tag = tagRepository.findById(id);
         if (tag.isEmpty()) {
             throw new IllegalArgumentException("Tag with id: " + id + " not found");
         }
-        if (!tag.get().getPosts().isEmpty()) {
+        if (postRepository.existsByTagsId(id)) {
             throw new IllegalStateException("Tag " + tag.get().getName() + " has posts associated with it");
         }
         tagRepository.deleteById(id);
+        eventPublisher.publishEvent(new TagChangedEvent(id, TagChangedEvent.Type.DELETED));
         return null;
     }
 }
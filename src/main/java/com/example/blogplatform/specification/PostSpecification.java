@@ -1,9 +1,13 @@
 package com.example.blogplatform.specification;
 
+import com.example.blogplatform.domain.PostCursor;
 import com.example.blogplatform.domain.PostStatus;
 import com.example.blogplatform.domain.entities.Post;
+import jakarta.persistence.criteria.Path;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 public class PostSpecification {
@@ -35,4 +39,28 @@ public class PostSpecification {
             return criteriaBuilder.equal(root.join("tags").get("id"), tagId);
         };
     }
+
+    public static Specification<Post> hasIdIn(Collection<UUID> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Post> isBeyondCursor(PostCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) return criteriaBuilder.conjunction();
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+            if (cursor.direction() == PostCursor.Direction.AFTER) {
+                return criteriaBuilder.or(
+                        criteriaBuilder.lessThan(createdAt, cursor.createdAt()),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(createdAt, cursor.createdAt()),
+                                criteriaBuilder.lessThan(id, cursor.id())));
+            }
+            return criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(createdAt, cursor.createdAt()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(createdAt, cursor.createdAt()),
+                            criteriaBuilder.greaterThan(id, cursor.id())));
+        };
+    }
 }
@@ -27,7 +27,8 @@ public enum ResponseMessage {
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "Post not found."),
     POSTS_FOUND(HttpStatus.OK, "Posts found."),
     NO_POSTS_FOUND(HttpStatus.NOT_FOUND, "No posts found."),
-    POST_REMOVED(HttpStatus.NO_CONTENT, "Post removed.");
+    POST_REMOVED(HttpStatus.NO_CONTENT, "Post removed."),
+    POSTS_IMPORTED(HttpStatus.OK, "Posts imported.");
 
     public final String message;
     public final HttpStatus status;
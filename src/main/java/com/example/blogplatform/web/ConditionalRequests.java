@@ -0,0 +1,87 @@
+package com.example.blogplatform.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Helpers for answering conditional {@code GET} requests with {@code 304 Not Modified}.
+ */
+public final class ConditionalRequests {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+    private static final String POST_UPDATED_AT_ATTRIBUTE = ConditionalRequests.class.getName() + ".POST_UPDATED_AT.";
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Validates {@code If-None-Match} and {@code If-Modified-Since} against the given validators.
+     * <p>
+     * Sets {@code ETag}, {@code Last-Modified} and {@code Cache-Control: no-cache} on the response,
+     * so clients may keep the body but must revalidate it, instead of the {@code no-store} default
+     * added by Spring Security.
+     *
+     * @param request      the current request
+     * @param etag         the entity tag of the current representation, without quotes
+     * @param lastModified when the representation last changed, in epoch milliseconds
+     * @return {@code true} if the client's copy is current and a 304 response has been prepared;
+     *         the handler should then return {@code null}
+     */
+    public static boolean checkNotModified(WebRequest request, String etag, long lastModified) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag, lastModified);
+    }
+
+    /**
+     * Returns the modification time of a post, looking it up only once per request: the response
+     * cache and the controller both need it.
+     *
+     * @param request the current request
+     * @param postId  the id of the post
+     * @param lookup  reads the modification time of a post
+     * @return the modification time, or an empty {@link Optional} if the post does not exist
+     */
+    public static Optional<LocalDateTime> postUpdatedAt(RequestAttributes request, UUID postId,
+                                                        Function<UUID, Optional<LocalDateTime>> lookup) {
+        String attribute = POST_UPDATED_AT_ATTRIBUTE + postId;
+        if (request.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST) instanceof LocalDateTime updatedAt) {
+            return Optional.of(updatedAt);
+        }
+        Optional<LocalDateTime> updatedAt = lookup.apply(postId);
+        updatedAt.ifPresent(value -> request.setAttribute(attribute, value, RequestAttributes.SCOPE_REQUEST));
+        return updatedAt;
+    }
+
+    /**
+     * Builds the entity tag of a single post from its id and modification time.
+     *
+     * @param postId    the id of the post
+     * @param updatedAt when the post was last updated
+     * @return the entity tag value, without quotes
+     */
+    public static String postEtag(UUID postId, LocalDateTime updatedAt) {
+        return postId + "-" + ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt);
+    }
+
+    /**
+     * Converts a post timestamp, stored in the server's time zone, to epoch milliseconds.
+     *
+     * @param dateTime the timestamp
+     * @return the timestamp in epoch milliseconds
+     */
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.blogplatform.web;
+
+import com.example.blogplatform.domain.ContentKind;
+import com.example.blogplatform.domain.entities.ContentVersion;
+import com.example.blogplatform.domain.events.CategoryChangedEvent;
+import com.example.blogplatform.domain.events.PostChangedEvent;
+import com.example.blogplatform.domain.events.TagChangedEvent;
+import com.example.blogplatform.repositories.ContentVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks a version per kind of content so collection responses can be validated without
+ * running the queries behind them.
+ * <p>
+ * Versions are rows of the {@code content_versions} table, so all application instances agree
+ * on them. A transaction publishing a change event increments the matching version just before
+ * it commits, once per kind of content however many events it publishes, and moves the
+ * modification time used for {@code Last-Modified}. The rows are read once per request.
+ * {@code Last-Modified} is only a fallback for clients that do not send {@code If-None-Match}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentVersions {
+
+    private static final String VERSIONS_ATTRIBUTE = ContentVersions.class.getName() + ".VERSIONS";
+
+    private final ContentVersionRepository contentVersionRepository;
+
+    /**
+     * Creates missing versions, for databases whose schema was not created by the migrations.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void createMissingVersions() {
+        Set<ContentKind> missing = EnumSet.allOf(ContentKind.class);
+        contentVersionRepository.findAll().forEach(version -> missing.remove(version.getKind()));
+        long lastModified = nextSecond(System.currentTimeMillis());
+        contentVersionRepository.saveAll(missing.stream()
+                .map(kind -> new ContentVersion(kind, 0, lastModified))
+                .toList());
+    }
+
+    /**
+     * Returns an entity tag identifying the current state of the given content.
+     *
+     * @param contents the content a response depends on
+     * @return the entity tag value, without quotes
+     */
+    public String etag(ContentKind... contents) {
+        Map<ContentKind, ContentVersion> versions = currentVersions();
+        StringBuilder etag = new StringBuilder("v");
+        for (ContentKind content : contents) {
+            etag.append('-').append(versions.get(content).getVersion());
+        }
+        return etag.toString();
+    }
+
+    /**
+     * Returns when any of the given content last changed.
+     *
+     * @param contents the content a response depends on
+     * @return the timestamp in epoch milliseconds
+     */
+    public long lastModified(ContentKind... contents) {
+        Map<ContentKind, ContentVersion> versions = currentVersions();
+        long max = 0;
+        for (ContentKind content : contents) {
+            max = Math.max(max, versions.get(content).getLastModified());
+        }
+        return max;
+    }
+
+    /**
+     * Validates a conditional request against the current state of the given content.
+     * <p>
+     * Also sets the validator and cache control headers on the response, see
+     * {@link ConditionalRequests#checkNotModified(WebRequest, String, long)}.
+     *
+     * @param request  the current request
+     * @param contents the content the response depends on
+     * @return {@code true} if the client's copy is current and a 304 response has been prepared
+     */
+    public boolean checkNotModified(WebRequest request, ContentKind... contents) {
+        return ConditionalRequests.checkNotModified(request, etag(contents), lastModified(contents));
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        changed(ContentKind.POSTS);
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        changed(ContentKind.CATEGORIES);
+    }
+
+    @EventListener
+    public void onTagChanged(TagChangedEvent event) {
+        changed(ContentKind.TAGS);
+    }
+
+    /**
+     * Returns the versions as of the start of the current request, reading them on first use.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<ContentKind, ContentVersion> currentVersions() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Map<ContentKind, ContentVersion> versions = attributes == null ? null
+                : (Map<ContentKind, ContentVersion>) attributes.getAttribute(VERSIONS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (versions == null) {
+            versions = new EnumMap<>(ContentKind.class);
+            for (ContentVersion version : contentVersionRepository.findAll()) {
+                versions.put(version.getKind(), version);
+            }
+            if (attributes != null) {
+                attributes.setAttribute(VERSIONS_ATTRIBUTE, versions, RequestAttributes.SCOPE_REQUEST);
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Increments the version of the content when the current transaction commits, or right away
+     * outside of a transaction. Versions are incremented in a fixed order, so concurrent
+     * transactions never wait for each other's version rows in a cycle.
+     */
+    private void changed(ContentKind content) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(content);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<ContentKind> changed = (Set<ContentKind>) TransactionSynchronizationManager.getResource(this);
+        if (changed == null) {
+            Set<ContentKind> pending = EnumSet.noneOf(ContentKind.class);
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    pending.forEach(ContentVersions.this::increment);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ContentVersions.this);
+                }
+            });
+            changed = pending;
+        }
+        changed.add(content);
+    }
+
+    private void increment(ContentKind content) {
+        contentVersionRepository.increment(content, nextSecond(System.currentTimeMillis()));
+    }
+
+    /**
+     * HTTP dates have second precision, so a change is dated to the next whole second to be newer
+     * than any response built before it.
+     */
+    private static long nextSecond(long millis) {
+        return (millis / 1000 + 1) * 1000;
+    }
+}
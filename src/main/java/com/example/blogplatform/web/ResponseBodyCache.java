@@ -0,0 +1,122 @@
+package com.example.blogplatform.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bounded cache of finished response bodies held in direct (off-heap) memory.
+ * <p>
+ * Each entry stores the serialized body and, above a minimum size, a gzip-compressed copy, so
+ * hits need neither serialization nor compression. Entries are weighed by their buffer sizes
+ * against a byte budget and evicted by Caffeine's size-based policy; the native memory of an
+ * evicted buffer is released once the buffer itself is collected.
+ * <p>
+ * Keys include the version of the content a response was built from, so entries for outdated
+ * versions are never read again and simply age out. Entries also expire a fixed time after they
+ * were cached, however often they are read, which bounds how long a response can outlive a
+ * change its key does not capture.
+ */
+@Component
+public class ResponseBodyCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    private static final String CACHE_NAME = "responseBodies";
+
+    /**
+     * Identifies a cached response.
+     *
+     * @param uri     the request URI including the query string
+     * @param version the version of the content the response was built from
+     */
+    public record Key(String uri, String version) {
+    }
+
+    /**
+     * A cached response.
+     *
+     * @param contentType  the {@code Content-Type} header
+     * @param etag         the {@code ETag} header, or {@code null}
+     * @param lastModified the {@code Last-Modified} header, or {@code null}
+     * @param cacheControl the {@code Cache-Control} header, or {@code null}
+     * @param identity     the body, read-only
+     * @param gzip         the gzip-compressed body, read-only, or {@code null} if the body is too small
+     */
+    public record Entry(String contentType, String etag, String lastModified, String cacheControl,
+                        ByteBuffer identity, ByteBuffer gzip) {
+
+        int weight() {
+            return ENTRY_OVERHEAD_BYTES + identity.capacity() + (gzip == null ? 0 : gzip.capacity());
+        }
+    }
+
+    private final Cache<Key, Entry> cache;
+    private final int gzipMinSize;
+
+    public ResponseBodyCache(
+            @Value("${blog.cache.responses.max-bytes:33554432}") long maxBytes,
+            @Value("${blog.cache.responses.ttl:10m}") Duration ttl,
+            @Value("${blog.cache.responses.gzip-min-size:1024}") int gzipMinSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Entry entry) -> entry.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.gzipMinSize = gzipMinSize;
+        // Same tag keys as the caches of the CacheManager, which Prometheus requires for meters sharing a name
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME,
+                "cache.manager", "responseBodyCache", "name", CACHE_NAME);
+    }
+
+    /**
+     * Looks up a cached response.
+     *
+     * @param key the key of the response
+     * @return the entry, or {@code null} if none is cached
+     */
+    public Entry get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Copies a response body off-heap, compresses it if worthwhile, and caches the result.
+     *
+     * @param key          the key of the response
+     * @param body         the serialized body
+     * @param contentType  the {@code Content-Type} header
+     * @param etag         the {@code ETag} header, or {@code null}
+     * @param lastModified the {@code Last-Modified} header, or {@code null}
+     * @param cacheControl the {@code Cache-Control} header, or {@code null}
+     */
+    public void put(Key key, byte[] body, String contentType, String etag, String lastModified, String cacheControl) {
+        ByteBuffer gzip = body.length >= gzipMinSize ? toDirect(gzip(body)) : null;
+        cache.put(key, new Entry(contentType, etag, lastModified, cacheControl, toDirect(body), gzip));
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
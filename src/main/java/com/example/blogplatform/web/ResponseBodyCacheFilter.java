@@ -0,0 +1,168 @@
+package com.example.blogplatform.web;
+
+import com.example.blogplatform.datasource.ReadYourWrites;
+import com.example.blogplatform.domain.ContentKind;
+import com.example.blogplatform.services.PostService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves hot read endpoints from the {@link ResponseBodyCache}.
+ * <p>
+ * Applies to {@code GET /api/v1/posts/{postId}}, {@code GET /api/v1/categories} and
+ * {@code GET /api/v1/tags}. The cache key is the request URI and query string plus the version
+ * of the content the response depends on: the post's entity tag for single posts and the
+ * {@link ContentVersions} of the collections for listings. Hits are answered straight from the
+ * off-heap buffer, gzip-compressed when the client accepts it, and honour {@code If-None-Match}
+ * and {@code If-Modified-Since}. Misses run the request normally, reading from the primary database
+ * when read replicas are configured, and cache successful responses.
+ * <p>
+ * A cached body is replayed byte for byte, including the {@code timestamp} of the
+ * {@code GenericResponse} envelope, which therefore reports when the body was built.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBodyCacheFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute holding the URI template of a response served from the cache, as such requests
+     * never reach a handler mapping.
+     */
+    public static final String ROUTE_ATTRIBUTE = ResponseBodyCacheFilter.class.getName() + ".ROUTE";
+
+    private static final Pattern POST_PATH = Pattern.compile("/api/v1/posts/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})");
+    private static final String CATEGORIES_PATH = "/api/v1/categories";
+    private static final String TAGS_PATH = "/api/v1/tags";
+    private static final String POST_ROUTE = "/api/v1/posts/{postId}";
+
+    private final ResponseBodyCache responseBodyCache;
+    private final ContentVersions contentVersions;
+    private final PostService postService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String version = resolveVersion(request);
+        if (version == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String query = request.getQueryString();
+        ResponseBodyCache.Key key = new ResponseBodyCache.Key(
+                query == null ? request.getRequestURI() : request.getRequestURI() + '?' + query, version);
+        ResponseBodyCache.Entry entry = responseBodyCache.get(key);
+        if (entry != null) {
+            request.setAttribute(ROUTE_ATTRIBUTE, POST_PATH.matcher(request.getRequestURI()).matches()
+                    ? POST_ROUTE
+                    : request.getRequestURI());
+            write(entry, request, response);
+            return;
+        }
+
+        // The body is cached under the current version, so it must not come from a replica that lags behind it
+        ReadYourWrites.pinToPrimary();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        if (responseWrapper.getStatus() == HttpServletResponse.SC_OK
+                && responseWrapper.getHeader(HttpHeaders.CONTENT_ENCODING) == null) {
+            responseBodyCache.put(key,
+                    responseWrapper.getContentAsByteArray(),
+                    responseWrapper.getContentType(),
+                    responseWrapper.getHeader(HttpHeaders.ETAG),
+                    responseWrapper.getHeader(HttpHeaders.LAST_MODIFIED),
+                    responseWrapper.getHeader(HttpHeaders.CACHE_CONTROL));
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    /**
+     * Returns the version of the content behind a cacheable path, or {@code null} if the path is
+     * not cacheable.
+     */
+    private String resolveVersion(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (CATEGORIES_PATH.equals(path)) {
+            return contentVersions.etag(ContentKind.CATEGORIES, ContentKind.POSTS);
+        }
+        if (TAGS_PATH.equals(path)) {
+            return contentVersions.etag(ContentKind.TAGS, ContentKind.POSTS);
+        }
+        Matcher matcher = POST_PATH.matcher(path);
+        if (matcher.matches()) {
+            UUID postId = UUID.fromString(matcher.group(1));
+            return ConditionalRequests.postUpdatedAt(new ServletRequestAttributes(request), postId, postService::getPostUpdatedAt)
+                    .map(updatedAt -> ConditionalRequests.postEtag(postId, updatedAt))
+                    .orElse(null);
+        }
+        return null;
+    }
+
+    private void write(ResponseBodyCache.Entry entry, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (entry.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, entry.cacheControl());
+        }
+        if (entry.lastModified() != null) {
+            response.setHeader(HttpHeaders.LAST_MODIFIED, entry.lastModified());
+        }
+        if (entry.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, entry.etag());
+        }
+        if (new ServletWebRequest(request, response).checkNotModified(entry.etag(), parseDate(entry.lastModified()))) {
+            return;
+        }
+
+        ByteBuffer body = entry.identity();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (entry.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = entry.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentType(entry.contentType());
+        response.setContentLength(body.capacity());
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        ByteBuffer view = body.duplicate();
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+    }
+
+    private static long parseDate(String date) {
+        if (date == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(date, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+}
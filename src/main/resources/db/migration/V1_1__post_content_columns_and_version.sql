@@ -0,0 +1,7 @@
+-- Columns added to posts since the baseline: the content analysis results, which the content backfill
+-- computes for existing posts, and the version used for optimistic locking.
+ALTER TABLE posts
+    ADD COLUMN word_count   integer,
+    ADD COLUMN excerpt      varchar(200),
+    ADD COLUMN content_hash varchar(16),
+    ADD COLUMN version      bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,51 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update, apart from the names Hibernate gave
+-- the unique and foreign key constraints. Databases created that way are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and only receive later migrations, so this file must never change.
+
+CREATE TABLE users (
+    id         uuid         NOT NULL,
+    email      varchar(255) NOT NULL,
+    password   varchar(255) NOT NULL,
+    name       varchar(255) NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT users_email_key UNIQUE (email)
+);
+
+CREATE TABLE categories (
+    id   uuid         NOT NULL,
+    name varchar(255) NOT NULL,
+    CONSTRAINT categories_pkey PRIMARY KEY (id),
+    CONSTRAINT categories_name_key UNIQUE (name)
+);
+
+CREATE TABLE tags (
+    id   uuid         NOT NULL,
+    name varchar(255) NOT NULL,
+    CONSTRAINT tags_pkey PRIMARY KEY (id),
+    CONSTRAINT tags_name_key UNIQUE (name)
+);
+
+CREATE TABLE posts (
+    id           uuid         NOT NULL,
+    title        varchar(255) NOT NULL,
+    content      text         NOT NULL,
+    author_id    uuid         NOT NULL,
+    category_id  uuid         NOT NULL,
+    status       varchar(255) NOT NULL,
+    reading_time integer      NOT NULL,
+    created_at   timestamp(6) NOT NULL,
+    updated_at   timestamp(6) NOT NULL,
+    CONSTRAINT posts_pkey PRIMARY KEY (id),
+    CONSTRAINT posts_status_check CHECK (status IN ('DRAFT', 'PUBLISHED')),
+    CONSTRAINT posts_author_id_fkey FOREIGN KEY (author_id) REFERENCES users (id),
+    CONSTRAINT posts_category_id_fkey FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE post_tags (
+    post_id uuid NOT NULL,
+    tag_id  uuid NOT NULL,
+    CONSTRAINT post_tags_pkey PRIMARY KEY (post_id, tag_id),
+    CONSTRAINT post_tags_post_id_fkey FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT post_tags_tag_id_fkey FOREIGN KEY (tag_id) REFERENCES tags (id)
+);
@@ -0,0 +1,23 @@
+-- Indexes for the keyset-paginated post listings, which filter on status plus an optional author, category
+-- or tag and order by (created_at, id). Built concurrently so existing databases keep taking writes; Flyway
+-- runs a migration made only of concurrent statements outside of a transaction.
+
+-- Published posts, newest first, without any other filter.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS posts_published_created_at_id_idx
+    ON posts (created_at, id) WHERE status = 'PUBLISHED';
+
+-- An author's published posts and drafts.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS posts_author_id_status_created_at_id_idx
+    ON posts (author_id, status, created_at, id);
+
+-- A category's published posts; also backs the check for posts before a category is deleted.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS posts_category_id_status_created_at_id_idx
+    ON posts (category_id, status, created_at, id);
+
+-- A tag's posts; the primary key only serves lookups by post.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS post_tags_tag_id_post_id_idx
+    ON post_tags (tag_id, post_id);
+
+-- Posts still waiting for the content analysis backfill.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS posts_content_hash_missing_idx
+    ON posts (id) WHERE content_hash IS NULL;
@@ -0,0 +1,13 @@
+-- Versions behind the entity tags of collection responses, shared by all application instances.
+
+CREATE TABLE content_versions (
+    kind          varchar(16) NOT NULL,
+    version       bigint      NOT NULL,
+    last_modified bigint      NOT NULL,
+    CONSTRAINT content_versions_pkey PRIMARY KEY (kind),
+    CONSTRAINT content_versions_kind_check CHECK (kind IN ('POSTS', 'CATEGORIES', 'TAGS'))
+);
+
+INSERT INTO content_versions (kind, version, last_modified)
+SELECT kind, 0, (floor(extract(epoch FROM now())) + 1)::bigint * 1000
+FROM (VALUES ('POSTS'), ('CATEGORIES'), ('TAGS')) AS kinds (kind);
@@ -0,0 +1,79 @@
+package com.example.blogplatform;
+
+import com.example.blogplatform.domain.PostStatus;
+import com.example.blogplatform.domain.dtos.CreateCategoryRequest;
+import com.example.blogplatform.domain.dtos.CreatePostRequest;
+import com.example.blogplatform.domain.dtos.CreateTagRequest;
+import com.example.blogplatform.repositories.UserRepository;
+import com.example.blogplatform.services.CategoryService;
+import com.example.blogplatform.services.PostService;
+import com.example.blogplatform.services.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Creates categories, tags and published posts through the services, shared by the integration
+ * tests. Names are random so tests sharing an application context do not collide.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    public static final String AUTHOR_EMAIL = "user@test.com";
+    public static final String POST_CONTENT = "Some content for a post";
+
+    private final PostService postService;
+    private final CategoryService categoryService;
+    private final TagService tagService;
+    private final UserRepository userRepository;
+
+    public static String uniqueName(String prefix) {
+        return prefix + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public UUID authorId() {
+        return userRepository.findByEmail(AUTHOR_EMAIL).orElseThrow().getId();
+    }
+
+    public UUID createCategory() {
+        return categoryService.createCategory(new CreateCategoryRequest(uniqueName("c"))).getId();
+    }
+
+    public UUID createTag() {
+        return tagService.createTag(new CreateTagRequest(uniqueName("t"))).getId();
+    }
+
+    public Set<UUID> createTags(int count) {
+        Set<UUID> tagIds = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            tagIds.add(createTag());
+        }
+        return tagIds;
+    }
+
+    public UUID createPost(UUID categoryId, Set<UUID> tagIds) {
+        return postService.addPost(postRequest(categoryId, tagIds), authorId()).getId();
+    }
+
+    public UUID createCategoryWithPosts(int postCount, int tagsPerPost) {
+        UUID categoryId = createCategory();
+        for (int i = 0; i < postCount; i++) {
+            createPost(categoryId, createTags(tagsPerPost));
+        }
+        return categoryId;
+    }
+
+    public CreatePostRequest postRequest(UUID categoryId, Set<UUID> tagIds) {
+        return CreatePostRequest.builder()
+                .title("Post")
+                .content(POST_CONTENT)
+                .categoryId(categoryId)
+                .tagIds(tagIds)
+                .status(PostStatus.PUBLISHED)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.blogplatform.content;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentAnalyzerTest {
+
+    @Test
+    void countsWordsAndReadingTime() {
+        String content = "  one two\tthree\n\nfour ".repeat(100);
+
+        ContentAnalysis analysis = ContentAnalyzer.analyze(content);
+
+        assertThat(analysis.wordCount()).isEqualTo(400);
+        assertThat(analysis.readingTime()).isEqualTo(2);
+        assertThat(ContentAnalyzer.analyze("").wordCount()).isZero();
+        assertThat(ContentAnalyzer.analyze(null).readingTime()).isZero();
+    }
+
+    @Test
+    void excerptIsPlainTextWithCollapsedWhitespace() {
+        ContentAnalysis analysis = ContentAnalyzer.analyze("# Title\n\nSome <b>bold</b> and *emphasised*   `code`.");
+
+        assertThat(analysis.excerpt()).isEqualTo("Title Some bold and emphasised code.");
+    }
+
+    @Test
+    void longExcerptIsCutAtWordBoundary() {
+        ContentAnalysis analysis = ContentAnalyzer.analyze("lorem ipsum ".repeat(50));
+
+        assertThat(analysis.excerpt()).hasSizeLessThanOrEqualTo(ContentAnalyzer.EXCERPT_LENGTH).endsWith("…").doesNotEndWith(" …");
+        assertThat(analysis.excerpt()).doesNotContain("  ");
+        assertThat(ContentAnalyzer.analyze("x".repeat(ContentAnalyzer.EXCERPT_LENGTH) + " more").excerpt())
+                .hasSize(ContentAnalyzer.EXCERPT_LENGTH).endsWith("…");
+    }
+
+    @Test
+    void hashChangesWithContent() {
+        String hash = ContentAnalyzer.analyze("Hello world").contentHash();
+
+        assertThat(hash).hasSize(16).isEqualTo(ContentAnalyzer.analyze("Hello world").contentHash());
+        assertThat(ContentAnalyzer.analyze("Hello world!").contentHash()).isNotEqualTo(hash);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.blogplatform.controllers;
+
+import com.example.blogplatform.domain.entities.User;
+import com.example.blogplatform.repositories.UserRepository;
+import com.example.blogplatform.security.PasswordHashingExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "blog.password-hashing.threads=1",
+        "blog.password-hashing.queue-capacity=1",
+        "blog.password-hashing.bcrypt-strength=5"
+})
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Test
+    void loginRehashesPasswordWithLowerWorkFactor() throws Exception {
+        String email = createUser("{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret"));
+
+        mockMvc.perform(asyncDispatch(login(email, "secret")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.token").isNotEmpty());
+
+        assertThat(userRepository.findByEmail(email).orElseThrow().getPassword()).startsWith("{bcrypt}$2a$05$");
+    }
+
+    @Test
+    void loginWithWrongPasswordIsUnauthorized() throws Exception {
+        String email = createUser("{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret"));
+
+        mockMvc.perform(asyncDispatch(login(email, "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void loginFailsFastWhenHashingQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocker = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        passwordHashingExecutor.execute(blocker);
+        passwordHashingExecutor.execute(blocker);
+        try {
+            mockMvc.perform(post("/api/v1/auth")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(credentials("user@test.com", "password")))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists("Retry-After"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private String createUser(String passwordHash) {
+        return userRepository.save(User.builder()
+                .name("Auth Test")
+                .email(UUID.randomUUID() + "@test.com")
+                .password(passwordHash)
+                .build()).getEmail();
+    }
+
+    private MvcResult login(String email, String password) throws Exception {
+        return mockMvc.perform(post("/api/v1/auth")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials(email, password)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static String credentials(String email, String password) {
+        return "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.blogplatform.controllers;
+
+import com.example.blogplatform.TestFixtures;
+import com.example.blogplatform.diagnostics.StatementBudgetFilter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "blog.diagnostics.statements.budget=10",
+        "blog.diagnostics.statements.fail-on-exceed=true"
+})
+@AutoConfigureMockMvc
+class ListingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/v1/categories", "/api/v1/tags"})
+    void listingStatementCountDoesNotGrowWithResultSize(String uri) throws Exception {
+        createCategoriesAndTagsWithPosts(2);
+        int smallCount = countStatements(uri);
+
+        createCategoriesAndTagsWithPosts(10);
+        int largeCount = countStatements(uri);
+
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    private int countStatements(String uri) throws Exception {
+        return (Integer) mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getRequest()
+                .getAttribute(StatementBudgetFilter.STATEMENT_COUNT_ATTRIBUTE);
+    }
+
+    private void createCategoriesAndTagsWithPosts(int count) {
+        for (int i = 0; i < count; i++) {
+            UUID categoryId = fixtures.createCategory();
+            fixtures.createPost(categoryId, Set.of(fixtures.createTag()));
+        }
+    }
+}
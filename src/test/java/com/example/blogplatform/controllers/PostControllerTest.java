@@ -0,0 +1,157 @@
+package com.example.blogplatform.controllers;
+
+import com.example.blogplatform.TestFixtures;
+import com.example.blogplatform.diagnostics.StatementBudgetFilter;
+import com.example.blogplatform.domain.dtos.PatchPostRequest;
+import com.example.blogplatform.services.PostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "blog.diagnostics.statements.budget=10",
+        "blog.diagnostics.statements.fail-on-exceed=true"
+})
+@AutoConfigureMockMvc
+class PostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID authorId;
+
+    @BeforeEach
+    void setUp() {
+        authorId = fixtures.authorId();
+    }
+
+    @Test
+    void listingStatementCountDoesNotGrowWithResultSize() throws Exception {
+        UUID small = fixtures.createCategoryWithPosts(2, 2);
+        UUID large = fixtures.createCategoryWithPosts(10, 2);
+
+        int smallCount = countStatements("/api/v1/posts?categoryId=" + small);
+        int largeCount = countStatements("/api/v1/posts?categoryId=" + large);
+
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    void singlePostStatementCountDoesNotGrowWithTagCount() throws Exception {
+        UUID fewTags = fixtures.createPost(fixtures.createCategory(), fixtures.createTags(1));
+        UUID manyTags = fixtures.createPost(fixtures.createCategory(), fixtures.createTags(8));
+
+        int fewTagsCount = countStatements("/api/v1/posts/" + fewTags);
+        int manyTagsCount = countStatements("/api/v1/posts/" + manyTags);
+
+        assertThat(manyTagsCount).isEqualTo(fewTagsCount);
+    }
+
+    @Test
+    void createStatementCountDoesNotGrowWithTagCount() throws Exception {
+        UUID categoryId = fixtures.createCategory();
+
+        int fewTagsCount = countCreateStatements(categoryId, fixtures.createTags(1));
+        int manyTagsCount = countCreateStatements(categoryId, fixtures.createTags(8));
+
+        assertThat(manyTagsCount).isEqualTo(fewTagsCount);
+    }
+
+    @Test
+    void createReportsAllMissingReferencesAtOnce() throws Exception {
+        UUID missingCategory = UUID.randomUUID();
+        UUID missingTag = UUID.randomUUID();
+
+        mockMvc.perform(createRequest(missingCategory, Set.of(missingTag, fixtures.createTag())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(allOf(
+                        containsString(missingCategory.toString()),
+                        containsString(missingTag.toString()))));
+    }
+
+    @Test
+    void patchWritesOnlyWhenSomethingChanged() throws Exception {
+        UUID postId = fixtures.createPost(fixtures.createCategory(), fixtures.createTags(2));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        mockMvc.perform(patchRequest(postId, PatchPostRequest.builder().title("Patched").build()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("Patched"))
+                .andExpect(jsonPath("$.data.content").value(TestFixtures.POST_CONTENT));
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+        assertThat(postService.getPost(postId).getContent()).isEqualTo(TestFixtures.POST_CONTENT);
+
+        statistics.clear();
+        mockMvc.perform(patchRequest(postId, PatchPostRequest.builder().title("Patched").build()))
+                .andExpect(status().isOk());
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    private MockHttpServletRequestBuilder patchRequest(UUID postId, PatchPostRequest request) throws Exception {
+        return patch("/api/v1/posts/" + postId)
+                .with(user(TestFixtures.AUTHOR_EMAIL))
+                .requestAttr("userId", authorId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request));
+    }
+
+    private int countCreateStatements(UUID categoryId, Set<UUID> tagIds) throws Exception {
+        return (Integer) mockMvc.perform(createRequest(categoryId, tagIds))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getRequest()
+                .getAttribute(StatementBudgetFilter.STATEMENT_COUNT_ATTRIBUTE);
+    }
+
+    private MockHttpServletRequestBuilder createRequest(UUID categoryId, Set<UUID> tagIds) throws Exception {
+        return post("/api/v1/posts")
+                .with(user(TestFixtures.AUTHOR_EMAIL))
+                .requestAttr("userId", authorId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(fixtures.postRequest(categoryId, tagIds)));
+    }
+
+    private int countStatements(String uri) throws Exception {
+        return (Integer) mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getRequest()
+                .getAttribute(StatementBudgetFilter.STATEMENT_COUNT_ATTRIBUTE);
+    }
+}
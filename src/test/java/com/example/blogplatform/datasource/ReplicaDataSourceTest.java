@@ -0,0 +1,134 @@
+package com.example.blogplatform.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReplicaDataSourceTest {
+
+    private static final Duration EJECT_FOR = Duration.ofSeconds(30);
+
+    private final DataSource primary = h2("primary");
+    private final DataSource replica1 = h2("replica1");
+    private final DataSource replica2 = h2("replica2");
+    private final AtomicLong now = new AtomicLong();
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void roundRobinAlternatesBetweenReplicas() throws SQLException {
+        ReplicaDataSource dataSource = replicas(List.of(replica1, replica2));
+
+        assertThat(List.of(database(dataSource), database(dataSource), database(dataSource)))
+                .containsExactly("replica1", "replica2", "replica1");
+    }
+
+    @Test
+    void failingReplicaIsEjectedUntilThePeriodHasPassed() throws SQLException {
+        FailingDataSource failing = new FailingDataSource();
+        ReplicaDataSource dataSource = replicas(List.of(failing, replica1));
+
+        assertThat(List.of(database(dataSource), database(dataSource), database(dataSource)))
+                .containsOnly("replica1");
+        assertThat(failing.attempts).hasValue(1);
+
+        now.addAndGet(EJECT_FOR.toNanos());
+        database(dataSource);
+        database(dataSource);
+        assertThat(failing.attempts).hasValue(2);
+    }
+
+    @Test
+    void exhaustedPoolIsSkippedWithoutEjectingItsReplica() throws SQLException {
+        try (HikariDataSource pool = singleConnectionPool("replica1")) {
+            ReplicaDataSource dataSource = replicas(List.of(pool, replica2));
+            ReplicaDataSource onlyBusy = replicas(List.of(pool));
+
+            try (Connection held = pool.getConnection()) {
+                assertThat(database(dataSource)).isEqualTo("replica2");
+                assertThatThrownBy(() -> database(onlyBusy)).isInstanceOf(SQLTransientConnectionException.class);
+            }
+
+            assertThat(List.of(database(dataSource), database(dataSource))).containsExactly("replica2", "replica1");
+        }
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenNoReplicaIsAvailable() throws SQLException {
+        ReplicaDataSource dataSource = replicas(List.of(new FailingDataSource()));
+
+        assertThat(database(dataSource)).isEqualTo("primary");
+    }
+
+    @Test
+    void requestPinnedByWriteReadsFromPrimary() throws SQLException {
+        ReplicaDataSource dataSource = replicas(List.of(replica1));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(database(dataSource)).isEqualTo("replica1");
+
+        ReadYourWrites.pinToPrimary();
+
+        assertThat(database(dataSource)).isEqualTo("primary");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(database(dataSource)).isEqualTo("replica1");
+    }
+
+    private ReplicaDataSource replicas(List<DataSource> replicas) {
+        return new ReplicaDataSource(replicas, primary, ReplicaDataSource.Selection.ROUND_ROBIN, EJECT_FOR, now::get);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static HikariDataSource singleConnectionPool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(1);
+        pool.setConnectionTimeout(250);
+        return pool;
+    }
+
+    private static String database(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getCatalog().toLowerCase();
+        }
+    }
+
+    private static final class FailingDataSource extends AbstractDataSource {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            attempts.incrementAndGet();
+            throw new SQLException("Connection refused");
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.blogplatform.datasource;
+
+import com.example.blogplatform.TestFixtures;
+import com.example.blogplatform.domain.dtos.CreateTagRequest;
+import com.example.blogplatform.domain.dtos.TagDto;
+import com.example.blogplatform.services.TagService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the application against two H2 databases standing in for a primary and a replica. The replica only
+ * receives the primary's data when {@link #replicate()} copies it over, so everything written in between
+ * simulates replication lag.
+ */
+@SpringBootTest(properties = "blog.datasource.replicas.urls=" + ReplicaRoutingTest.REPLICA_URL)
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        replicate();
+    }
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyRequestsReadFromReplica() throws Exception {
+        UUID categoryId = fixtures.createCategory();
+        fixtures.createPost(categoryId, Set.of());
+
+        mockMvc.perform(get("/api/v1/posts").param("categoryId", categoryId.toString()))
+                .andExpect(status().isNotFound());
+
+        replicate();
+
+        mockMvc.perform(get("/api/v1/posts").param("categoryId", categoryId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1));
+    }
+
+    @Test
+    void requestReadsItsOwnWritesFromPrimary() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        TagDto tag = tagService.createTag(new CreateTagRequest(TestFixtures.uniqueName("own")));
+
+        assertThat(tagService.getAllTags()).extracting(TagDto::getId).contains(tag.getId());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(tagService.getAllTags()).extracting(TagDto::getId).doesNotContain(tag.getId());
+    }
+
+    @Test
+    void cachedResponsesAreBuiltFromPrimary() throws Exception {
+        String name = TestFixtures.uniqueName("cached");
+        tagService.createTag(new CreateTagRequest(name));
+
+        mockMvc.perform(get("/api/v1/tags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].name").value(hasItem(name)));
+    }
+
+    /**
+     * Replaces the replica's contents with a snapshot of the primary.
+     */
+    private void replicate() throws SQLException, IOException {
+        Path script = Files.createTempFile("replica", ".sql");
+        try {
+            try (Connection connection = primaryDataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("SCRIPT TO '" + script + "'");
+            }
+            try (Connection connection = DriverManager.getConnection(REPLICA_URL,
+                    primaryDataSource.getUsername(), primaryDataSource.getPassword());
+                 Statement statement = connection.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+                statement.execute("RUNSCRIPT FROM '" + script + "'");
+            }
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+}
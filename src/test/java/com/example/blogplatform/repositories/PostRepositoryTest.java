@@ -0,0 +1,151 @@
+package com.example.blogplatform.repositories;
+
+import com.example.blogplatform.domain.PostStatus;
+import com.example.blogplatform.domain.entities.Category;
+import com.example.blogplatform.domain.entities.Post;
+import com.example.blogplatform.domain.entities.Tag;
+import com.example.blogplatform.domain.entities.User;
+import com.example.blogplatform.mappers.PostMapper;
+import com.example.blogplatform.services.PostService;
+import com.example.blogplatform.specification.PostSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void listingWithFetchPlanIssuesConstantStatementCount() {
+        Category small = createCategoryWithPosts(2);
+        Category large = createCategoryWithPosts(8);
+
+        long smallCount = countStatements(() -> mapAll(PostSpecification.hasCategory(small.getId())));
+        long largeCount = countStatements(() -> mapAll(PostSpecification.hasCategory(large.getId())));
+
+        assertThat(smallCount).isEqualTo(1);
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    void tagFilterDoesNotDuplicateRowsOrTruncateFetchedTags() {
+        Category category = createCategoryWithPosts(3);
+        Tag filterTag = transactionTemplate.execute(status -> tagRepository.findAll().stream()
+                .filter(tag -> tag.getName().startsWith(category.getName() + "-a"))
+                .findFirst()
+                .orElseThrow());
+
+        var posts = transactionTemplate.execute(status -> postRepository.findAll(
+                        PostSpecification.hasCategory(category.getId())
+                                .and(PostSpecification.hasTag(filterTag.getId())))
+                .stream()
+                .map(postMapper::toDto)
+                .toList());
+
+        assertThat(posts).hasSize(3);
+        assertThat(posts).allSatisfy(post -> assertThat(post.getTags()).hasSize(2));
+    }
+
+    @Test
+    void summaryListingIssuesConstantStatementCount() {
+        Category small = createCategoryWithPosts(2);
+        Category large = createCategoryWithPosts(8);
+
+        long smallCount = countStatements(() ->
+                postService.getAllPostsWithCriteria(small.getId(), null, null, null, 50));
+        long largeCount = countStatements(() ->
+                postService.getAllPostsWithCriteria(large.getId(), null, null, null, 50));
+
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    void singlePostIsLoadedWithOneStatement() {
+        Category category = createCategoryWithPosts(1);
+        UUID postId = transactionTemplate.execute(status ->
+                postRepository.findAll(PostSpecification.hasCategory(category.getId())).get(0).getId());
+
+        long count = countStatements(() -> transactionTemplate.executeWithoutResult(status ->
+                postMapper.toDto(postRepository.findDetailedById(postId).orElseThrow())));
+
+        assertThat(count).isEqualTo(1);
+    }
+
+    private void mapAll(Specification<Post> specification) {
+        transactionTemplate.executeWithoutResult(status ->
+                postRepository.findAll(specification).forEach(postMapper::toDto));
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Category createCategoryWithPosts(int postCount) {
+        return transactionTemplate.execute(status -> {
+            String name = "c" + UUID.randomUUID().toString().substring(0, 8);
+            User author = userRepository.findByEmail("user@test.com").orElseThrow();
+            Category category = categoryRepository.save(Category.builder().name(name).build());
+            Tag first = tagRepository.save(Tag.builder().name(name + "-a").build());
+            Tag second = tagRepository.save(Tag.builder().name(name + "-b").build());
+            for (int i = 0; i < postCount; i++) {
+                postRepository.save(Post.builder()
+                        .title("Post " + i)
+                        .content("Some content for post " + i)
+                        .author(author)
+                        .category(category)
+                        .tags(Set.of(first, second))
+                        .status(PostStatus.PUBLISHED)
+                        .readingTime(1)
+                        .createdAt(LocalDateTime.now())
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+            }
+            return category;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.blogplatform.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private final PostSearchIndex index = new PostSearchIndex();
+
+    @Test
+    void ranksDocumentsByRelevance() {
+        UUID java = UUID.randomUUID();
+        UUID spring = UUID.randomUUID();
+        UUID cooking = UUID.randomUUID();
+        index.index(java, "Java streams", "Streams in Java make collection processing concise. Java rocks.");
+        index.index(spring, "Spring Boot", "Spring Boot builds on Java and the Spring framework.");
+        index.index(cooking, "Pasta", "Boil water, add salt and cook the pasta.");
+
+        assertThat(index.search("java", 10)).containsExactly(java, spring);
+        assertThat(index.search("pasta salt", 10)).containsExactly(cooking);
+        assertThat(index.search("unknown", 10)).isEmpty();
+    }
+
+    @Test
+    void phraseQueriesRequireAdjacentTerms() {
+        UUID adjacent = UUID.randomUUID();
+        UUID apart = UUID.randomUUID();
+        index.index(adjacent, "Notes", "We use spring boot daily.");
+        index.index(apart, "Notes", "In spring we reboot the boot loader.");
+
+        assertThat(index.search("\"spring boot\"", 10)).containsExactly(adjacent);
+        assertThat(index.search("boot", 10)).containsExactlyInAnyOrder(adjacent, apart);
+    }
+
+    @Test
+    void phrasesDoNotSpanTitleAndContent() {
+        UUID post = UUID.randomUUID();
+        index.index(post, "Hello", "World of tokens");
+
+        assertThat(index.search("\"hello world\"", 10)).isEmpty();
+        assertThat(index.search("\"world of\"", 10)).containsExactly(post);
+    }
+
+    @Test
+    void updatesReplaceAndRemovalsDeleteDocuments() {
+        UUID post = UUID.randomUUID();
+        index.index(post, "Old title", "old body");
+        index.index(post, "New title", "new body");
+
+        assertThat(index.search("old", 10)).isEmpty();
+        assertThat(index.search("new", 10)).containsExactly(post);
+
+        index.remove(post);
+        assertThat(index.search("new", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void compactionKeepsRemainingDocumentsSearchable() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            index.index(id, "Post " + i, "common words and number" + i);
+        }
+        for (int i = 0; i < 2000; i++) {
+            index.remove(ids.get(i));
+        }
+
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.search("number2500", 10)).containsExactly(ids.get(2500));
+        assertThat(index.search("number10", 10)).isEmpty();
+        assertThat(index.search("\"common words\"", 5000)).hasSize(1000);
+    }
+
+    @Test
+    void repeatedUpdatesAreCompactedAway() {
+        UUID postId = UUID.randomUUID();
+        for (int i = 0; i < 5000; i++) {
+            index.index(postId, "Revision " + i, "Revised content number" + i);
+        }
+
+        assertThat(index.documentCount()).isLessThanOrEqualTo(1024);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("number4999", 10)).containsExactly(postId);
+        assertThat(index.search("number10", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.blogplatform.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // Per IP: 3 attempts, one more every 10s. Per email: 2 attempts, one more every minute.
+    private final LoginRateLimiter limiter = new LoginRateLimiter(3, 6, 2, 1, 1000, meterRegistry, now::get);
+
+    @Test
+    void allowsBurstThenRejectsWithRetryAfterUntilRefilled() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("10.0.0.1", null);
+        }
+
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.1", null))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(10));
+        assertThatNoException().isThrownBy(() -> limiter.acquire("10.0.0.2", null));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThatNoException().isThrownBy(() -> limiter.acquire("10.0.0.1", null));
+        assertThat(meterRegistry.get("blog.login.throttled").tag("limit", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void limitsEmailAcrossAddressesIgnoringCase() {
+        limiter.acquire("10.0.0.1", "User@Test.com");
+        limiter.acquire("10.0.0.2", "user@test.com ");
+
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.3", "user@test.com"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(60));
+    }
+
+    @Test
+    void floodOfNewKeysDoesNotResetThrottledBuckets() {
+        LoginRateLimiter limiter = new LoginRateLimiter(3, 6, 2, 1, 2, new SimpleMeterRegistry(), now::get);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("10.0.0.1", null);
+        }
+
+        limiter.acquire("10.0.0.2", null);
+        for (int i = 3; i < 6; i++) {
+            limiter.acquire("10.0.0." + i, null);
+        }
+
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.6", null)).isInstanceOf(RateLimitExceededException.class);
+        assertThatThrownBy(() -> limiter.acquire("10.0.0.1", null)).isInstanceOf(RateLimitExceededException.class);
+        assertThatNoException().isThrownBy(() -> limiter.acquire("10.0.0.2", null));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.blogplatform.services;
+
+import com.example.blogplatform.TestFixtures;
+import com.example.blogplatform.domain.dtos.PostImportReport;
+import com.example.blogplatform.domain.dtos.PostImportResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PostImportServiceTest {
+
+    @Autowired
+    private PostImportService postImportService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void badItemsFailAloneWithinTheirChunk() throws Exception {
+        UUID categoryId = fixtures.createCategory();
+        String item = """
+                {"title": "%s", "content": "Some content for a post", "categoryId": "%s", %s"status": "PUBLISHED"}
+                """;
+        String body = item.formatted("First", categoryId, "")
+                + item.formatted("Null tags", categoryId, "\"tagIds\": null, ")
+                + item.formatted("X", categoryId, "")
+                + item.formatted("Last", categoryId, "\"tagIds\": [], ");
+
+        PostImportReport report = postImportService.importPosts(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), fixtures.authorId());
+
+        assertThat(report.getResults()).extracting(PostImportResult::getStatus).containsExactly(
+                PostImportResult.Status.CREATED,
+                PostImportResult.Status.CREATED,
+                PostImportResult.Status.FAILED,
+                PostImportResult.Status.CREATED);
+        assertThat(report.getResults().get(2).getError()).startsWith("title:");
+        assertThat(postService.getPost(report.getResults().get(1).getPostId()).getTags()).isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.blogplatform.services;
+
+import com.example.blogplatform.TestFixtures;
+import com.example.blogplatform.domain.dtos.PatchPostRequest;
+import com.example.blogplatform.domain.dtos.PostDto;
+import com.example.blogplatform.repositories.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class PostServiceConcurrencyTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID authorId;
+    private UUID categoryId;
+    private UUID tagId;
+
+    @BeforeEach
+    void setUp() {
+        authorId = fixtures.authorId();
+        categoryId = fixtures.createCategory();
+        tagId = fixtures.createTag();
+    }
+
+    @Test
+    void simultaneousEditsOfTheSamePostDoNotOverwriteEachOther() throws Exception {
+        UUID postId = createPost();
+        CyclicBarrier bothLoaded = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<PostDto>> edits = new ArrayList<>();
+            for (String title : List.of("Edit A", "Edit B")) {
+                edits.add(executor.submit(() -> transactionTemplate.execute(status -> {
+                    postRepository.findById(postId).orElseThrow();
+                    await(bothLoaded);
+                    return postService.patchPost(postId, PatchPostRequest.builder().title(title).build(), authorId);
+                })));
+            }
+
+            List<String> applied = new ArrayList<>();
+            int conflicts = 0;
+            for (Future<PostDto> edit : edits) {
+                try {
+                    applied.add(edit.get(30, TimeUnit.SECONDS).getTitle());
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+                    conflicts++;
+                }
+            }
+
+            assertThat(conflicts).isEqualTo(1);
+            PostDto stored = postService.getPost(postId);
+            assertThat(applied).containsExactly(stored.getTitle());
+            assertThat(stored.getVersion()).isEqualTo(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void updateBasedOnStaleVersionIsRejected() {
+        UUID postId = createPost();
+        postService.patchPost(postId, PatchPostRequest.builder().title("First").version(0L).build(), authorId);
+
+        assertThatThrownBy(() -> postService.patchPost(postId,
+                PatchPostRequest.builder().title("Second").version(0L).build(), authorId))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(postService.getPost(postId).getTitle()).isEqualTo("First");
+    }
+
+    @Test
+    void unchangedUpdateIsNotWritten() {
+        UUID postId = createPost();
+
+        PostDto updated = postService.updatePost(postId, fixtures.postRequest(categoryId, Set.of(tagId)), authorId);
+
+        assertThat(updated.getVersion()).isZero();
+    }
+
+    private UUID createPost() {
+        return fixtures.createPost(categoryId, Set.of(tagId));
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.blogplatform.utils;
+
+import com.example.blogplatform.domain.PostStatus;
+import com.example.blogplatform.domain.dtos.AuthorDto;
+import com.example.blogplatform.domain.dtos.PostDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PatcherTest {
+
+    @Test
+    void copiesOnlyNonNullFields() {
+        PostDto existing = post();
+
+        boolean changed = Patcher.patch(existing, PostDto.builder().postStatus(PostStatus.PUBLISHED).build());
+
+        assertThat(changed).isTrue();
+        assertThat(existing.getPostStatus()).isEqualTo(PostStatus.PUBLISHED);
+        assertThat(existing.getTitle()).isEqualTo("Title");
+        assertThat(existing.getContent()).isEqualTo("Content");
+    }
+
+    @Test
+    void reportsNoChangeForEqualValues() {
+        PostDto existing = post();
+
+        assertThat(Patcher.patch(existing, PostDto.builder().title("Title").build())).isFalse();
+        assertThat(Patcher.patch(existing, new PostDto())).isFalse();
+    }
+
+    @Test
+    void patchesNestedObjectsInPlace() {
+        PostDto existing = post();
+        AuthorDto author = existing.getAuthor();
+
+        Patcher.patch(existing, PostDto.builder().author(AuthorDto.builder().name("Renamed").build()).build());
+
+        assertThat(existing.getAuthor()).isSameAs(author);
+        assertThat(author.getName()).isEqualTo("Renamed");
+        assertThat(author.getId()).isNotNull();
+    }
+
+    @Test
+    void clearsExplicitNulls() {
+        PostDto existing = post();
+
+        boolean changed = Patcher.patch(existing, new PostDto(), List.of("content", "author.name"));
+
+        assertThat(changed).isTrue();
+        assertThat(existing.getContent()).isNull();
+        assertThat(existing.getAuthor().getName()).isNull();
+        assertThat(existing.getTitle()).isEqualTo("Title");
+    }
+
+    private static PostDto post() {
+        return PostDto.builder()
+                .id(UUID.randomUUID())
+                .title("Title")
+                .content("Content")
+                .author(AuthorDto.builder().id(UUID.randomUUID()).name("Author").build())
+                .postStatus(PostStatus.DRAFT)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.blogplatform.web;
+
+import com.example.blogplatform.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ResponseSizeMetricsFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void cachedResponsesAreRecordedUnderTheirRoute() throws Exception {
+        fixtures.createTag();
+        long before = tagListingCount();
+
+        mockMvc.perform(get("/api/v1/tags")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tags")).andExpect(status().isOk());
+
+        assertThat(tagListingCount() - before).isEqualTo(2);
+    }
+
+    private long tagListingCount() {
+        var summary = meterRegistry.find("http.server.response.size").tags("uri", "/api/v1/tags", "status", "200").summary();
+        return summary == null ? 0 : summary.count();
+    }
+}